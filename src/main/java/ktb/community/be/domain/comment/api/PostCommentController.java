@@ -1,6 +1,8 @@
 package ktb.community.be.domain.comment.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import ktb.community.be.domain.comment.application.PostCommentService;
 import ktb.community.be.domain.comment.dto.CommentRequestDto;
 import ktb.community.be.domain.comment.dto.CommentResponseDto;
@@ -56,6 +58,32 @@ public class PostCommentController {
         return ResponseEntity.ok(ApiResponse.success("댓글이 삭제되었습니다."));
     }
 
+    @Operation(summary = "댓글 페이지 조회", description = "최상위 댓글을 커서 기반으로 조회합니다. 각 댓글에는 전체 대댓글 수와 앞쪽 대댓글 replySize 개가 포함됩니다. (cursor: 이전 응답의 마지막 댓글 cursor 값)")
+    @GetMapping("/threads")
+    public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getCommentThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "size 는 100 이하여야 합니다.") int size,
+            @RequestParam(defaultValue = "3")
+            @Min(value = 1, message = "replySize 는 1 이상이어야 합니다.")
+            @Max(value = 20, message = "replySize 는 20 이하여야 합니다.") int replySize) {
+        return ResponseEntity.ok(ApiResponse.success("댓글 목록을 조회했습니다.", postCommentService.getCommentThreads(postId, cursor, size, replySize)));
+    }
+
+    @Operation(summary = "대댓글 더보기", description = "특정 댓글의 대댓글을 커서 기반으로 조회합니다. (cursor: 이전 응답의 마지막 대댓글 cursor 값)")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getReplies(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "size 는 100 이하여야 합니다.") int size) {
+        return ResponseEntity.ok(ApiResponse.success("대댓글 목록을 조회했습니다.", postCommentService.getReplies(postId, commentId, cursor, size)));
+    }
+
     @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getCommentsByPostId(@PathVariable Long postId) {
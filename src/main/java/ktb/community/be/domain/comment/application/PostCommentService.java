@@ -2,28 +2,53 @@ package ktb.community.be.domain.comment.application;
 
 import ktb.community.be.domain.comment.dao.PostCommentRepository;
 import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.comment.dto.CommentReplyCountDto;
 import ktb.community.be.domain.comment.dto.CommentRequestDto;
 import ktb.community.be.domain.comment.dto.CommentResponseDto;
 import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.post.event.PostChangedEvent;
 import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
 import ktb.community.be.global.util.CommentHierarchyBuilder;
-import lombok.RequiredArgsConstructor;
+import ktb.community.be.global.util.KeysetCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PostCommentService {
 
     private final PostCommentRepository postCommentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+
+    public PostCommentService(PostCommentRepository postCommentRepository,
+                              PostRepository postRepository,
+                              MemberRepository memberRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${post.counter-reconcile.batch-size:500}") int reconcileBatchSize) {
+        this.postCommentRepository = postCommentRepository;
+        this.postRepository = postRepository;
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+    }
 
     /**
      * 댓글 작성
@@ -42,7 +67,8 @@ public class PostCommentService {
                 .build();
 
         postCommentRepository.save(comment);
-        updateCommentCount(post);
+        postRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         return CommentResponseDto.from(comment);
     }
@@ -68,10 +94,13 @@ public class PostCommentService {
                 .member(member)
                 .content(requestDto.getContent())
                 .parentComment(parentComment)
+                .parentCommentId(parentComment.getId())
+                .rootCommentId(parentComment.getThreadRootId())
                 .build();
 
         postCommentRepository.save(reply);
-        updateCommentCount(post);
+        postRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         return CommentResponseDto.from(reply);
     }
@@ -93,6 +122,7 @@ public class PostCommentService {
         }
 
         comment.updateContent(requestDto.getContent());
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId()));
 
         return CommentResponseDto.from(comment);
     }
@@ -113,19 +143,32 @@ public class PostCommentService {
             throw new CustomException(ErrorCode.ACCESS_DENIED, "댓글 삭제 권한이 없습니다.");
         }
 
-        comment.softDelete();
-        postCommentRepository.save(comment);
+        // 조건부 UPDATE 로 동시 삭제 시에도 댓글 수는 한 번만 감소
+        if (postCommentRepository.softDeleteIfActive(commentId) == 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "이미 삭제된 댓글입니다.");
+        }
 
-        updateCommentCount(comment.getPost());
+        Long postId = comment.getPost().getId();
+        postRepository.decreaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
-     * 댓글 수 업데이트 메서드
+     * post_comment 기준으로 게시글 댓글 수 보정
+     * - 게시글 ID 구간마다 짧은 트랜잭션으로 나눠 잠금 범위와 보유 시간을 제한
      */
-    private void updateCommentCount(Post post) {
-        int commentCount = postCommentRepository.countByPostId(post.getId()); // 삭제되지 않은 댓글 수 조회
-        post.updateCommentCount(commentCount);
-        postRepository.save(post);
+    public void reconcileCommentCounts() {
+        long maxId = postRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileBatchSize) {
+            long toId = Math.min(maxId, fromId + reconcileBatchSize - 1);
+            long from = fromId;
+            Integer batch = transactionTemplate.execute(status -> postRepository.reconcileCommentCounts(from, toId));
+            updated += batch != null ? batch : 0;
+        }
+        if (updated > 0) {
+            log.warn("* 댓글 수 불일치 보정: {}건", updated);
+        }
     }
 
     /**
@@ -136,6 +179,95 @@ public class PostCommentService {
         postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
+        return getCommentHierarchy(postId);
+    }
+
+    /**
+     * 최상위 댓글 페이지 조회 (대댓글은 전체 개수와 앞쪽 replySize 개만 포함)
+     * - 스레드 크기와 관계없이 쿼리 수 고정 (게시글 확인, 최상위 댓글, 대댓글 수, 대댓글 ID, 대댓글)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getCommentThreads(Long postId, String cursor, int size, int replySize) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<PostComment> topLevelComments = keysetCursor == null
+                ? postCommentRepository.findFirstTopLevelPage(postId, PageRequest.of(0, size))
+                : postCommentRepository.findNextTopLevelPage(postId, keysetCursor.getCreatedAt(), keysetCursor.getId(), PageRequest.of(0, size));
+        if (topLevelComments.isEmpty()) return List.of();
+
+        List<Long> rootIds = topLevelComments.stream().map(PostComment::getId).toList();
+        Map<Long, Long> replyCounts = postCommentRepository.countRepliesByRootIds(postId, rootIds).stream()
+                .collect(Collectors.toMap(CommentReplyCountDto::getRootCommentId, CommentReplyCountDto::getReplyCount));
+        Map<Long, List<CommentResponseDto>> firstReplies = findFirstReplies(postId, rootIds, replySize);
+
+        return topLevelComments.stream()
+                .map(comment -> CommentResponseDto.from(comment).withReplies(
+                        replyCounts.getOrDefault(comment.getId(), 0L),
+                        firstReplies.getOrDefault(comment.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 특정 최상위 댓글의 대댓글 페이지 조회 (더보기)
+     * - 게시글이 없거나 commentId 가 해당 게시글의 최상위 댓글이 아니면 404
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getReplies(Long postId, Long commentId, String cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (!postCommentRepository.existsTopLevelComment(postId, commentId)) {
+            throw new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        List<PostComment> replies = keysetCursor == null
+                ? postCommentRepository.findFirstReplyPage(postId, commentId, PageRequest.of(0, size))
+                : postCommentRepository.findNextReplyPage(postId, commentId, keysetCursor.getCreatedAt(), keysetCursor.getId(), PageRequest.of(0, size));
+
+        return replies.stream()
+                .map(CommentResponseDto::from)
+                .toList();
+    }
+
+    private Map<Long, List<CommentResponseDto>> findFirstReplies(Long postId, List<Long> rootIds, int replySize) {
+        if (replySize <= 0) return Map.of();
+
+        List<Long> replyIds = postCommentRepository.findFirstReplyIds(postId, rootIds, replySize);
+        if (replyIds.isEmpty()) return Map.of();
+
+        return postCommentRepository.findAllWithMemberByIdIn(replyIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostComment::getRootCommentId,
+                        Collectors.mapping(CommentResponseDto::from, Collectors.toList())));
+    }
+
+    /**
+     * root_comment_id 가 없는 기존 대댓글 보정
+     */
+    @Transactional
+    public void backfillRootCommentIds() {
+        int total = 0;
+        int updated;
+        do {
+            updated = postCommentRepository.backfillRootCommentIds();
+            total += updated;
+        } while (updated > 0);
+
+        if (total > 0) {
+            log.info("* 대댓글 root_comment_id 보정 완료: {}건", total);
+        }
+    }
+
+    /**
+     * 게시글 존재 여부 확인 없이 댓글 계층 구성
+     * - 사용 위치: 게시글 상세 조회 (게시글은 호출 측에서 이미 조회됨)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getCommentHierarchy(Long postId) {
         List<PostComment> comments = postCommentRepository.findAllByPostId(postId);
 
         return CommentHierarchyBuilder.buildCommentHierarchy(comments);
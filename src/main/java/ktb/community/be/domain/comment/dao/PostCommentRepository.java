@@ -1,36 +1,137 @@
 package ktb.community.be.domain.comment.dao;
 
 import ktb.community.be.domain.comment.domain.PostComment;
-import org.hibernate.annotations.BatchSize;
+import ktb.community.be.domain.comment.dto.CommentReplyCountDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostCommentRepository extends JpaRepository<PostComment, Long> {
-//    @Query("SELECT c FROM PostComment c " +
-//            "LEFT JOIN FETCH c.member " +
-//            "LEFT JOIN FETCH c.parentComment " +
-//            "WHERE c.post.id = :postId " +
-//            "ORDER BY c.createdAt ASC")
-//    List<PostComment> findAllByPostId(@Param("postId") Long postId);
 
     /**
      * 댓글 전체 조회
+     * - 작성자는 fetch join 으로 함께 조회, 부모 댓글은 parent_comment_id 컬럼 값만 사용하므로 조인하지 않음
+     * - 댓글 수와 관계없이 쿼리 1회
      */
-    @Query("SELECT c FROM PostComment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
-    @BatchSize(size = 20)
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
     List<PostComment> findAllByPostId(@Param("postId") Long postId);
 
     /**
-     * 댓글 수 업데이트
+     * 최상위 댓글 첫 페이지 조회 (작성순)
+     * - idx_post_comment_thread (post_id, parent_comment_id, created_at) 범위 스캔
      */
-    @Query("SELECT COUNT(c) FROM PostComment c WHERE c.post.id = :postId AND c.deletedAt IS NULL")
-    int countByPostId(@Param("postId") Long postId);
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.parentCommentId IS NULL " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<PostComment> findFirstTopLevelPage(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 커서 기반 최상위 댓글 다음 페이지 조회 (작성순)
+     */
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.parentCommentId IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<PostComment> findNextTopLevelPage(@Param("postId") Long postId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 대댓글 첫 페이지 조회 (작성순)
+     * - idx_post_comment_replies (post_id, root_comment_id, created_at) 범위 스캔
+     */
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.rootCommentId = :rootCommentId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<PostComment> findFirstReplyPage(@Param("postId") Long postId,
+                                         @Param("rootCommentId") Long rootCommentId,
+                                         Pageable pageable);
+
+    /**
+     * 커서 기반 대댓글 다음 페이지 조회 (작성순)
+     */
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId AND c.rootCommentId = :rootCommentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<PostComment> findNextReplyPage(@Param("postId") Long postId,
+                                        @Param("rootCommentId") Long rootCommentId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 해당 게시글의 최상위 댓글인지 확인 (대댓글 더보기 요청 검증)
+     */
+    @Query("SELECT COUNT(c) > 0 FROM PostComment c " +
+            "WHERE c.id = :commentId AND c.post.id = :postId AND c.parentCommentId IS NULL")
+    boolean existsTopLevelComment(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    /**
+     * 최상위 댓글별 대댓글 수 집계
+     */
+    @Query("SELECT c.rootCommentId AS rootCommentId, COUNT(c) AS replyCount FROM PostComment c " +
+            "WHERE c.post.id = :postId AND c.rootCommentId IN :rootCommentIds " +
+            "GROUP BY c.rootCommentId")
+    List<CommentReplyCountDto> countRepliesByRootIds(@Param("postId") Long postId,
+                                                     @Param("rootCommentIds") Collection<Long> rootCommentIds);
+
+    /**
+     * 최상위 댓글별 앞쪽 대댓글 limit 개의 ID 조회 (윈도 함수로 한 번에 조회)
+     */
+    @Query(value = "SELECT ranked.id FROM (" +
+            "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.root_comment_id ORDER BY c.created_at, c.id) AS rn " +
+            "FROM post_comment c " +
+            "WHERE c.post_id = :postId AND c.root_comment_id IN (:rootCommentIds)" +
+            ") ranked WHERE ranked.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIds(@Param("postId") Long postId,
+                                 @Param("rootCommentIds") Collection<Long> rootCommentIds,
+                                 @Param("limit") int limit);
+
+    /**
+     * ID 목록으로 댓글 조회 (작성자 포함, 작성순)
+     */
+    @Query("SELECT c FROM PostComment c " +
+            "LEFT JOIN FETCH c.member " +
+            "WHERE c.id IN :ids " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<PostComment> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * root_comment_id 가 없는 기존 대댓글 보정
+     * - 부모가 원댓글이거나 이미 보정된 대댓글인 행만 채우므로, 0건이 될 때까지 반복 실행
+     */
+    @Modifying
+    @Query(value = "UPDATE post_comment c JOIN post_comment p ON c.parent_comment_id = p.id " +
+            "SET c.root_comment_id = COALESCE(p.root_comment_id, p.id) " +
+            "WHERE c.root_comment_id IS NULL AND c.parent_comment_id IS NOT NULL " +
+            "AND (p.parent_comment_id IS NULL OR p.root_comment_id IS NOT NULL)", nativeQuery = true)
+    int backfillRootCommentIds();
+
+    /**
+     * 삭제되지 않은 댓글만 Soft Delete (동시 삭제 요청 시 한 요청만 1 반환)
+     */
+    @Modifying
+    @Query("UPDATE PostComment c SET c.isDeleted = true, c.deletedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.id = :commentId AND c.deletedAt IS NULL")
+    int softDeleteIfActive(@Param("commentId") Long commentId);
 
     /**
      * Soft Delete 포함하여 특정 댓글 조회
@@ -13,7 +13,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "post_comment")
+@Table(name = "post_comment", indexes = {
+        @Index(name = "idx_post_comment_thread", columnList = "post_id, parent_comment_id, created_at"),
+        @Index(name = "idx_post_comment_replies", columnList = "post_id, root_comment_id, created_at")
+})
 @SQLDelete(sql = "UPDATE post_comment SET deleted_at = NOW() WHERE id = ?")
 //@Where(clause = "deleted_at IS NULL")
 @Getter
@@ -38,6 +41,14 @@ public class PostComment extends BaseTimeEntity {
     @JoinColumn(name = "parent_comment_id")
     private PostComment parentComment;
 
+    // 프록시 초기화 없이 부모 댓글 ID 를 읽기 위한 읽기 전용 매핑
+    @Column(name = "parent_comment_id", insertable = false, updatable = false)
+    private Long parentCommentId;
+
+    // 대댓글이 속한 최상위 댓글 ID (원댓글은 null)
+    @Column(name = "root_comment_id")
+    private Long rootCommentId;
+
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -57,6 +68,20 @@ public class PostComment extends BaseTimeEntity {
         this.replies = this.replies == null ? new ArrayList<>() : this.replies;
     }
 
+    /**
+     * 이 댓글에 답글을 달 때 사용할 최상위 댓글 ID
+     */
+    public Long getThreadRootId() {
+        if (rootCommentId != null) return rootCommentId;
+
+        // root_comment_id 가 없는 기존 데이터는 부모를 따라 올라감
+        PostComment current = this;
+        while (current.getParentComment() != null) {
+            current = current.getParentComment();
+        }
+        return current.getId();
+    }
+
     public void updateContent(String content) {
         this.content = content;
     }
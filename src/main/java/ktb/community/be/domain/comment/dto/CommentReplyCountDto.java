@@ -0,0 +1,11 @@
+package ktb.community.be.domain.comment.dto;
+
+/**
+ * 최상위 댓글별 대댓글 개수 집계 결과 (GROUP BY 프로젝션)
+ */
+public interface CommentReplyCountDto {
+
+    Long getRootCommentId();
+
+    Long getReplyCount();
+}
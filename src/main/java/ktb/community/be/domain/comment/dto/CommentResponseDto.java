@@ -1,18 +1,23 @@
 package ktb.community.be.domain.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import ktb.community.be.domain.comment.domain.PostComment;
 import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.global.util.KeysetCursor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-@JsonPropertyOrder({"id", "content", "createdAt", "updatedAt", "memberNickname", "memberProfileImageUrl", "parentCommentId", "isDeleted", "replies"})
+@JsonPropertyOrder({"id", "content", "createdAt", "updatedAt", "memberNickname", "memberProfileImageUrl", "parentCommentId", "isDeleted", "replyCount", "replies", "cursor"})
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class CommentResponseDto {
 
     private final Long id;
@@ -23,8 +28,11 @@ public class CommentResponseDto {
     private final String memberProfileImageUrl;
     private final Long parentCommentId;
     private final boolean isDeleted;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long replyCount; // 페이지 조회 시에만 포함 (전체 대댓글 수)
     @Builder.Default
     private final List<CommentResponseDto> replies = new ArrayList<>();
+    private final String cursor; // 다음 페이지 요청 시 마지막 댓글의 cursor 를 그대로 전달
 
     public static CommentResponseDto from(PostComment comment) {
         boolean isCommentDeleted = comment.getIsDeleted();
@@ -33,7 +41,7 @@ public class CommentResponseDto {
         boolean isMemberDeleted = member == null || member.getIsDeleted();
 
         String nickname = isCommentDeleted || isMemberDeleted ? "(알수없음)" : member.getNickname();
-        String profileImageUrl = isCommentDeleted || isMemberDeleted ? null : member.getProfileImageUrl();
+        String profileImageUrl = isCommentDeleted || isMemberDeleted ? null : member.getAvatarUrl();
 
         return CommentResponseDto.builder()
                 .id(comment.getId())
@@ -42,8 +50,28 @@ public class CommentResponseDto {
                 .updatedAt(comment.getUpdatedAt())
                 .memberNickname(nickname)
                 .memberProfileImageUrl(profileImageUrl)
-                .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
+                .parentCommentId(comment.getParentCommentId())
                 .isDeleted(isCommentDeleted)
+                .cursor(KeysetCursor.encode(comment.getCreatedAt(), comment.getId()))
                 .build();
     }
+
+    /**
+     * 최상위 댓글에 전체 대댓글 수와 첫 페이지 대댓글을 붙인 사본 생성
+     */
+    public CommentResponseDto withReplies(long replyCount, List<CommentResponseDto> replies) {
+        return toBuilder()
+                .replyCount(replyCount)
+                .replies(new ArrayList<>(replies))
+                .build();
+    }
+
+    public static class CommentResponseDtoBuilder {
+
+        // isDeleted() getter 는 "deleted" 로 직렬화되므로 역직렬화(캐시 복원) 시에도 같은 이름으로 받음
+        @JsonProperty("deleted")
+        private CommentResponseDtoBuilder deleted(boolean deleted) {
+            return isDeleted(deleted);
+        }
+    }
 }
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import ktb.community.be.domain.image.application.PostImageService;
 import ktb.community.be.domain.image.dto.PostImageOrderUpdateRequestDto;
+import ktb.community.be.domain.image.dto.PresignedUploadRequestDto;
+import ktb.community.be.domain.image.dto.PresignedUploadResponseDto;
+import ktb.community.be.domain.image.dto.UploadedImagesRequestDto;
 import ktb.community.be.domain.post.application.PostService;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.global.response.ApiResponse;
@@ -28,6 +32,28 @@ public class PostImageController {
     private final SecurityUtil securityUtil;
     private final ObjectMapper objectMapper;
 
+    @Operation(summary = "게시글 이미지 직접 업로드 URL 발급", description = "저장소에 이미지를 직접 PUT 할 수 있는 서명된 URL 을 발급합니다. (S3 저장소 사용 시)")
+    @PostMapping("/presigned-uploads")
+    public ResponseEntity<ApiResponse<PresignedUploadResponseDto>> createPresignedUpload(
+            @Valid @RequestBody PresignedUploadRequestDto requestDto
+    ) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        PresignedUploadResponseDto response = PresignedUploadResponseDto.from(postImageService.issuePresignedUpload(memberId,
+                requestDto.getFileName(), requestDto.getContentType(), requestDto.getContentLength(), requestDto.getSha256()));
+        return ResponseEntity.ok(ApiResponse.success("업로드 URL 이 발급되었습니다.", response));
+    }
+
+    @Operation(summary = "직접 업로드한 게시글 이미지 등록", description = "서명된 URL 로 업로드를 마친 이미지를 게시글에 등록합니다.")
+    @PostMapping("/{postId}/uploaded")
+    public ResponseEntity<ApiResponse<Void>> attachUploadedImages(
+            @PathVariable Long postId,
+            @Valid @RequestBody UploadedImagesRequestDto requestDto
+    ) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        postService.attachUploadedImages(postId, memberId, requestDto.getImageUrls(), requestDto.getOrderIndexes());
+        return ResponseEntity.ok(ApiResponse.success("이미지가 등록되었습니다."));
+    }
+
     @Operation(summary = "게시글 이미지 업로드", description = "게시글 작성 후 이미지를 업로드합니다.")
     @PostMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<Void>> uploadImages(
@@ -0,0 +1,126 @@
+package ktb.community.be.domain.image.application;
+
+import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.image.dao.PresignedUploadRepository;
+import ktb.community.be.domain.image.dao.ReleasedImageRepository;
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.global.util.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 미참조 이미지 파일 삭제
+ * - 참조 수는 별도 카운터 없이 DB 에서 직접 계산 (삭제되지 않은 PostImage + Member.profileImageUrl)
+ * - 참조가 없으면 원본과 축소본을 함께 삭제
+ * - 내용 주소 모드에서는 같은 내용을 방금 저장한 요청이 아직 커밋 전일 수 있으므로, grace 이내에 저장된 파일은 남겨둠
+ *   남겨둔 URL 은 ReleasedImageRepository 에 기록하고 grace 가 지난 뒤 주기적으로 다시 정리
+ * - 서명 URL 로 올린 뒤 게시글에 등록하지 않은 업로드는 발급 기록을 기준으로 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class ImageGarbageCollector {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final PostImageRepository postImageRepository;
+    private final MemberRepository memberRepository;
+    private final PresignedUploadRepository presignedUploadRepository;
+    private final ReleasedImageRepository releasedImageRepository;
+    private final FileStorageService fileStorageService;
+    private final Duration grace;
+    private final Duration presignExpiry;
+
+    public ImageGarbageCollector(PostImageRepository postImageRepository,
+                                 MemberRepository memberRepository,
+                                 PresignedUploadRepository presignedUploadRepository,
+                                 ReleasedImageRepository releasedImageRepository,
+                                 FileStorageService fileStorageService,
+                                 @Value("${file.storage.gc-grace-seconds:600}") long graceSeconds,
+                                 @Value("${file.storage.s3.presign-expiry-seconds:300}") long presignExpirySeconds) {
+        this.postImageRepository = postImageRepository;
+        this.memberRepository = memberRepository;
+        this.presignedUploadRepository = presignedUploadRepository;
+        this.releasedImageRepository = releasedImageRepository;
+        this.fileStorageService = fileStorageService;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.presignExpiry = Duration.ofSeconds(presignExpirySeconds);
+    }
+
+    /**
+     * 커밋뿐 아니라 롤백 후에도 실행 (가입 실패 등으로 저장만 되고 참조되지 않은 파일 정리)
+     * - 롤백된 경우에도 참조 여부는 DB 에서 다시 확인하므로 기존 참조 파일은 삭제되지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onImagesReleased(ImagesReleasedEvent event) {
+        collect(event.getImageUrls());
+    }
+
+    /**
+     * 참조가 없는 파일 삭제
+     * - grace 이내에 저장된 파일은 삭제를 미루고 기록, 미룬 URL 반환
+     */
+    public List<String> collect(Collection<String> imageUrls) {
+        List<String> deferred = new ArrayList<>();
+        imageUrls.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(imageUrl -> {
+                    if (isWithinGrace(imageUrl)) {
+                        releasedImageRepository.record(imageUrl);
+                        deferred.add(imageUrl);
+                    } else if (isUnreferenced(imageUrl)) {
+                        fileStorageService.deleteWithVariants(imageUrl);
+                        log.info("[이미지 파일 삭제] {}", imageUrl);
+                    }
+                });
+        return deferred;
+    }
+
+    /**
+     * 서명 URL 로 발급했지만 게시글에 등록되지 않은 업로드 정리
+     * - 서명 만료 + grace 가 지난 발급분만 대상, 참조 중인 파일은 collect 에서 걸러짐
+     */
+    public void sweepUnattachedUploads() {
+        Instant cutoff = Instant.now().minus(presignExpiry).minus(grace);
+        List<String> imageUrls;
+        do {
+            imageUrls = presignedUploadRepository.findIssuedBefore(cutoff, SWEEP_BATCH_SIZE);
+            collect(imageUrls);
+            presignedUploadRepository.removeIssued(imageUrls);
+        } while (imageUrls.size() == SWEEP_BATCH_SIZE);
+    }
+
+    /**
+     * grace 이전에 삭제를 미룬 URL 다시 정리
+     * - 그 사이 다시 저장된 파일은 또 미뤄지고 보류 시각이 갱신됨
+     */
+    public void sweepReleasedImages() {
+        Instant cutoff = Instant.now().minus(grace);
+        List<String> imageUrls;
+        do {
+            imageUrls = releasedImageRepository.findRecordedBefore(cutoff, SWEEP_BATCH_SIZE);
+            List<String> deferred = collect(imageUrls);
+            releasedImageRepository.remove(imageUrls.stream().filter(url -> !deferred.contains(url)).toList());
+        } while (imageUrls.size() == SWEEP_BATCH_SIZE);
+    }
+
+    private boolean isWithinGrace(String imageUrl) {
+        return fileStorageService.isContentAddressed() && fileStorageService.isModifiedWithin(imageUrl, grace);
+    }
+
+    private boolean isUnreferenced(String imageUrl) {
+        return postImageRepository.countActiveByImageUrl(imageUrl) == 0
+                && memberRepository.countByProfileImageUrl(imageUrl) == 0;
+    }
+}
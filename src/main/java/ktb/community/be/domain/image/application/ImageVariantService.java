@@ -0,0 +1,121 @@
+package ktb.community.be.domain.image.application;
+
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.image.event.PostImagesStoredEvent;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.event.ProfileImageChangedEvent;
+import ktb.community.be.domain.post.event.PostChangedEvent;
+import ktb.community.be.global.util.ImageVariantGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글/프로필 이미지 축소본 비동기 생성
+ * - 이미지 저장 트랜잭션 커밋 후 전용 풀에서 생성하므로 업로드 응답 시간에 영향 없음
+ * - 게시글 이미지: 목록용 thumbnail, 상세용 medium / 프로필: 아바타용 thumbnail
+ * - 생성 전이거나 실패하면 응답은 원본 URL 로 대체되므로, 풀이 가득 차면 작업을 버리고 경고만 남김
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PostImageRepository postImageRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    private final int thumbnailWidth;
+    private final int mediumWidth;
+    private final int profileWidth;
+
+    public ImageVariantService(ImageVariantGenerator imageVariantGenerator,
+                               PostImageRepository postImageRepository,
+                               MemberRepository memberRepository,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${image.variant.thumbnail-width:320}") int thumbnailWidth,
+                               @Value("${image.variant.medium-width:960}") int mediumWidth,
+                               @Value("${image.variant.profile-width:96}") int profileWidth,
+                               @Value("${image.variant.pool-size:2}") int poolSize,
+                               @Value("${image.variant.queue-capacity:256}") int queueCapacity) {
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.postImageRepository = postImageRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.thumbnailWidth = thumbnailWidth;
+        this.mediumWidth = mediumWidth;
+        this.profileWidth = profileWidth;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("[이미지 축소본 생성 생략] 작업 대기열 포화 (queue={})", pool.getQueue().size()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostImagesStored(PostImagesStoredEvent event) {
+        submit(() -> generatePostImageVariants(event.getPostId(), event.getImageUrls()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileImageChanged(ProfileImageChangedEvent event) {
+        submit(() -> generateProfileThumbnail(event.getMemberId(), event.getProfileImageUrl()));
+    }
+
+    private void generatePostImageVariants(Long postId, Map<Long, String> imageUrls) {
+        imageUrls.forEach((imageId, imageUrl) -> {
+            Map<Integer, String> variants = imageVariantGenerator.generate(imageUrl, List.of(thumbnailWidth, mediumWidth));
+            if (variants.isEmpty()) return;
+
+            transactionTemplate.executeWithoutResult(status -> postImageRepository.updateVariants(
+                    imageId, variants.get(thumbnailWidth), variants.get(mediumWidth)));
+        });
+
+        // 캐시된 상세 응답이 원본 URL 을 계속 내려주지 않도록 무효화
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+    private void generateProfileThumbnail(Long memberId, String profileImageUrl) {
+        String thumbnailUrl = imageVariantGenerator.generate(profileImageUrl, List.of(profileWidth)).get(profileWidth);
+        if (thumbnailUrl == null) return;
+
+        // 생성 도중 프로필 이미지가 다시 바뀐 경우 반영되지 않으며, 만든 썸네일은 원본과 함께 정리됨 (ImageGarbageCollector)
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.updateProfileThumbnail(memberId, profileImageUrl, thumbnailUrl));
+    }
+
+    private void submit(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("[이미지 축소본 생성 실패] {}", e.getMessage());
+            }
+        });
+    }
+}
@@ -1,17 +1,22 @@
 package ktb.community.be.domain.image.application;
 
 import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.image.dao.PresignedUploadRepository;
 import ktb.community.be.domain.image.domain.PostImage;
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
+import ktb.community.be.domain.image.event.PostImagesStoredEvent;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.post.event.PostChangedEvent;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.storage.PresignedUpload;
 import ktb.community.be.global.util.FileStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
@@ -24,7 +29,21 @@ public class PostImageService {
 
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
+    private final PresignedUploadRepository presignedUploadRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 이미지 직접 업로드용 서명 URL 발급
+     * - 발급 기록을 남겨 게시글에 등록되지 않은 업로드를 나중에 정리 (ImageGarbageCollector)
+     * - 회원별로도 기록하여 본인이 발급받은 URL 만 게시글에 등록 가능 (PostService.attachUploadedImages)
+     */
+    public PresignedUpload issuePresignedUpload(Long memberId, String fileName, String contentType,
+                                                long contentLength, String sha256) {
+        PresignedUpload upload = fileStorageService.presignPostImageUpload(fileName, contentType, contentLength, sha256);
+        presignedUploadRepository.recordIssued(memberId, upload.imageUrl());
+        return upload;
+    }
 
     /**
      * 게시글 ID와 회원 ID를 기반으로 게시글을 조회하고 작성자인지 검증합니다.
@@ -42,6 +61,7 @@ public class PostImageService {
 
     /**
      * 게시글 이미지 중 유지하지 않을 이미지들을 Soft Delete 처리
+     * - 커밋 후 참조가 없어진 파일 삭제 (ImageGarbageCollector)
      */
     @Transactional
     public void deleteImages(Post post, List<Long> keepImageIds) {
@@ -51,6 +71,8 @@ public class PostImageService {
                 .toList();
         toDelete.forEach(PostImage::softDelete);
         postImageRepository.saveAll(toDelete);
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+        eventPublisher.publishEvent(new ImagesReleasedEvent(toDelete.stream().map(PostImage::getImageUrl).toList()));
     }
 
     /**
@@ -67,22 +89,41 @@ public class PostImageService {
             if (image != null) image.updateOrderIndex(entry.getValue());
         }
         postImageRepository.saveAll(existingImages);
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
     }
 
     /**
      * 새로 업로드된 게시글 이미지 저장
+     * - 파일은 호출 측에서 트랜잭션 밖에서 미리 저장하고 URL 만 전달 (FileStorageService.storePostImages)
+     * - 커밋 후 축소본 생성 (ImageVariantService)
      */
     @Transactional
-    public List<PostImage> saveNewImages(Post post, Member member, List<MultipartFile> images, List<Integer> orderIndexes) {
-        if (images == null || images.isEmpty()) return List.of();
-        return IntStream.range(0, images.size())
+    public List<PostImage> saveNewImages(Post post, Member member, List<String> imageUrls, List<Integer> orderIndexes) {
+        if (imageUrls == null || imageUrls.isEmpty()) return List.of();
+        List<PostImage> postImages = IntStream.range(0, imageUrls.size())
                 .mapToObj(i -> PostImage.builder()
                         .post(post)
                         .member(member)
-                        .imageUrl(fileStorageService.storeFile(images.get(i), "posts"))
+                        .imageUrl(imageUrls.get(i))
                         .orderIndex(orderIndexes.get(i))
                         .isDeleted(false)
                         .build())
                 .toList();
+        List<PostImage> saved = postImageRepository.saveAll(postImages);
+
+        eventPublisher.publishEvent(new PostImagesStoredEvent(post.getId(), saved.stream()
+                .collect(Collectors.toMap(PostImage::getId, PostImage::getImageUrl))));
+        return saved;
+    }
+
+    /**
+     * 이미지 개수와 orderIndex 개수 일치 여부 검증
+     */
+    public void validateOrderIndexes(List<?> images, List<Integer> orderIndexes) {
+        if (images == null || images.isEmpty()) return;
+
+        if (orderIndexes == null || orderIndexes.size() != images.size()) {
+            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
+        }
     }
 }
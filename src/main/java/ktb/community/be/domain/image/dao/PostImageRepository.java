@@ -2,6 +2,7 @@ package ktb.community.be.domain.image.dao;
 
 import ktb.community.be.domain.image.domain.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,4 +17,21 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      */
     @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId AND i.isDeleted = false ORDER BY i.orderIndex")
     List<PostImage> findAllByPostId(@Param("postId") Long postId);
+
+    /**
+     * 같은 파일을 참조하는 삭제되지 않은 이미지 수
+     * - 사용 위치: 미참조 이미지 파일 삭제 (ImageGarbageCollector)
+     */
+    @Query("SELECT COUNT(i) FROM PostImage i WHERE i.imageUrl = :imageUrl AND i.isDeleted = false")
+    long countActiveByImageUrl(@Param("imageUrl") String imageUrl);
+
+    /**
+     * 축소본 URL 기록
+     * - 사용 위치: 이미지 축소본 생성 (ImageVariantService)
+     */
+    @Modifying
+    @Query("UPDATE PostImage i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.id = :imageId")
+    int updateVariants(@Param("imageId") Long imageId,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
 }
@@ -0,0 +1,79 @@
+package ktb.community.be.domain.image.dao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 서명 URL 로 발급한 게시글 이미지 기록 (Redis)
+ * - 발급 목록: upload:presigned (ZSET, member = 이미지 URL, score = 발급 시각)
+ * - 서명 만료 + grace 가 지나도록 게시글에 등록되지 않은 업로드를 찾는 데 사용 (ImageGarbageCollector)
+ * - 회원별 발급 목록: upload:presigned:member:{memberId} (SET, TTL = 서명 만료 + grace)
+ *   게시글 등록 시 이 회원이 발급받은 URL 인지 확인하고 목록에서 꺼내므로 한 번만 등록 가능
+ */
+@Repository
+public class PresignedUploadRepository {
+
+    private static final String ISSUED_KEY = "upload:presigned";
+    private static final String MEMBER_KEY_PREFIX = "upload:presigned:member:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration memberTtl;
+
+    public PresignedUploadRepository(StringRedisTemplate redisTemplate,
+                                     @Value("${file.storage.s3.presign-expiry-seconds:300}") long presignExpirySeconds,
+                                     @Value("${file.storage.gc-grace-seconds:600}") long graceSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.memberTtl = Duration.ofSeconds(presignExpirySeconds + graceSeconds);
+    }
+
+    /**
+     * 발급 기록 (같은 URL 을 다시 발급하면 발급 시각만 갱신)
+     */
+    public void recordIssued(Long memberId, String imageUrl) {
+        redisTemplate.opsForZSet().add(ISSUED_KEY, imageUrl, Instant.now().toEpochMilli());
+        addToMember(memberId, List.of(imageUrl));
+    }
+
+    /**
+     * 회원이 발급받은 URL 이면 목록에서 꺼내고 true (동시 요청 중 한 요청만 true)
+     */
+    public boolean claim(Long memberId, String imageUrl) {
+        Long removed = redisTemplate.opsForSet().remove(MEMBER_KEY_PREFIX + memberId, imageUrl);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 꺼낸 URL 을 되돌림 (등록 실패 시 다시 시도할 수 있도록)
+     */
+    public void release(Long memberId, Collection<String> imageUrls) {
+        if (imageUrls.isEmpty()) return;
+        addToMember(memberId, imageUrls);
+    }
+
+    private void addToMember(Long memberId, Collection<String> imageUrls) {
+        String key = MEMBER_KEY_PREFIX + memberId;
+        redisTemplate.opsForSet().add(key, imageUrls.toArray(String[]::new));
+        redisTemplate.expire(key, memberTtl);
+    }
+
+    /**
+     * cutoff 이전에 발급된 URL (오래된 순, 최대 limit 개)
+     */
+    public List<String> findIssuedBefore(Instant cutoff, int limit) {
+        Set<String> urls = redisTemplate.opsForZSet()
+                .rangeByScore(ISSUED_KEY, 0, cutoff.toEpochMilli(), 0, limit);
+        return urls == null ? List.of() : List.copyOf(urls);
+    }
+
+    public void removeIssued(Collection<String> imageUrls) {
+        if (imageUrls.isEmpty()) return;
+        redisTemplate.opsForZSet().remove(ISSUED_KEY, imageUrls.toArray());
+    }
+}
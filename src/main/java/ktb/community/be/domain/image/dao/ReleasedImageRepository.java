@@ -0,0 +1,47 @@
+package ktb.community.be.domain.image.dao;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 삭제를 미룬 이미지 URL 기록 (Redis)
+ * - 목록: upload:released (ZSET, member = 이미지 URL, score = 삭제를 미룬 시각)
+ * - 내용 주소 모드에서 grace 이내에 저장된 파일은 바로 지우지 않으므로, grace 가 지난 뒤 다시 정리하는 데 사용 (ImageGarbageCollector)
+ */
+@Repository
+public class ReleasedImageRepository {
+
+    private static final String RELEASED_KEY = "upload:released";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ReleasedImageRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 삭제 보류 기록 (이미 있으면 보류 시각만 갱신)
+     */
+    public void record(String imageUrl) {
+        redisTemplate.opsForZSet().add(RELEASED_KEY, imageUrl, Instant.now().toEpochMilli());
+    }
+
+    /**
+     * cutoff 이전에 보류된 URL (오래된 순, 최대 limit 개)
+     */
+    public List<String> findRecordedBefore(Instant cutoff, int limit) {
+        Set<String> urls = redisTemplate.opsForZSet()
+                .rangeByScore(RELEASED_KEY, 0, cutoff.toEpochMilli(), 0, limit);
+        return urls == null ? List.of() : List.copyOf(urls);
+    }
+
+    public void remove(Collection<String> imageUrls) {
+        if (imageUrls.isEmpty()) return;
+        redisTemplate.opsForZSet().remove(RELEASED_KEY, imageUrls.toArray());
+    }
+}
@@ -9,7 +9,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post_image")
+@Table(name = "post_image", indexes = {
+        @Index(name = "idx_post_image_url", columnList = "image_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -31,6 +33,13 @@ public class PostImage extends BaseTimeEntity {
     @Column(length = 512, nullable = false)
     private String imageUrl;
 
+    // 비동기로 생성되는 축소본 (생성 전에는 null)
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String mediumUrl;
+
     @Column(columnDefinition = "INT UNSIGNED DEFAULT 0", nullable = false)
     private Integer orderIndex;
 
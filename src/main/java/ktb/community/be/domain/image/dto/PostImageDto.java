@@ -3,18 +3,24 @@ package ktb.community.be.domain.image.dto;
 import ktb.community.be.domain.image.domain.PostImage;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class PostImageDto {
     private Long id;
     private String imageUrl;
+    private String thumbnailUrl; // 목록/미리보기용 (축소본 생성 전에는 원본)
+    private String mediumUrl;    // 상세 화면용 (축소본 생성 전에는 원본)
     private int orderIndex;
 
     public static PostImageDto from(PostImage image) {
         return PostImageDto.builder()
                 .id(image.getId())
                 .imageUrl(image.getImageUrl())
+                .thumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImageUrl())
+                .mediumUrl(image.getMediumUrl() != null ? image.getMediumUrl() : image.getImageUrl())
                 .orderIndex(image.getOrderIndex())
                 .build();
     }
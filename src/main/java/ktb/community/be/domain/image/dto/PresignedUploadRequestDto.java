@@ -0,0 +1,23 @@
+package ktb.community.be.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PresignedUploadRequestDto {
+
+    @NotBlank(message = "파일명을 입력해주세요.")
+    private String fileName;
+
+    @NotBlank(message = "파일 형식을 입력해주세요.")
+    private String contentType;
+
+    @Positive(message = "파일 크기를 입력해주세요.")
+    private long contentLength;
+
+    // 파일 내용의 SHA-256 (hex), 내용 주소 저장 모드에서 필수
+    private String sha256;
+}
@@ -0,0 +1,28 @@
+package ktb.community.be.domain.image.dto;
+
+import ktb.community.be.global.storage.PresignedUpload;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class PresignedUploadResponseDto {
+
+    private final String imageUrl;   // 업로드 완료 후 게시글에 등록할 URL
+    private final String uploadUrl;  // PUT 요청 대상
+    private final Map<String, List<String>> headers; // PUT 요청에 그대로 포함해야 하는 헤더
+    private final Instant expiresAt;
+
+    public static PresignedUploadResponseDto from(PresignedUpload upload) {
+        return PresignedUploadResponseDto.builder()
+                .imageUrl(upload.imageUrl())
+                .uploadUrl(upload.uploadUrl())
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package ktb.community.be.domain.image.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class UploadedImagesRequestDto {
+
+    @NotEmpty(message = "등록할 이미지가 없습니다.")
+    private List<String> imageUrls;
+
+    private List<Integer> orderIndexes;
+}
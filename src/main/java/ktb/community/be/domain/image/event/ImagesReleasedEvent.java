@@ -0,0 +1,17 @@
+package ktb.community.be.domain.image.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이미지 URL 이 더 이상 참조되지 않을 수 있음을 알리는 이벤트 (이미지 soft delete, 프로필 교체, 저장 후 DB 반영 실패)
+ * - 사용 위치: 미참조 이미지 파일 삭제 (ImageGarbageCollector)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImagesReleasedEvent {
+
+    private final List<String> imageUrls;
+}
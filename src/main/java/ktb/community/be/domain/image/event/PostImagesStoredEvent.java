@@ -0,0 +1,18 @@
+package ktb.community.be.domain.image.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 게시글 이미지가 새로 저장되었음을 알리는 이벤트
+ * - 사용 위치: 이미지 축소본 생성 (ImageVariantService)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostImagesStoredEvent {
+
+    private final Long postId;
+    private final Map<Long, String> imageUrls; // 이미지 ID → 원본 URL
+}
@@ -2,68 +2,105 @@ package ktb.community.be.domain.like.application;
 
 import ktb.community.be.domain.like.dao.PostLikeRepository;
 import ktb.community.be.domain.like.domain.PostLike;
+import ktb.community.be.domain.like.domain.SoftDeleteType;
 import ktb.community.be.domain.post.dao.PostRepository;
-import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.member.dao.MemberRepository;
-import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PostLikeService {
 
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+
+    public PostLikeService(PostRepository postRepository,
+                           PostLikeRepository postLikeRepository,
+                           MemberRepository memberRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${post.counter-reconcile.batch-size:500}") int reconcileBatchSize) {
+        this.postRepository = postRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+    }
 
     /**
      * 사용자가 게시글에 좋아요를 추가/취소하는 기능
+     * - 행 잠금 없이 unique_like 와 조건부 INSERT/UPDATE 로 동시 토글 처리
+     * - 실제로 반영된 행이 있을 때만 좋아요 수를 증감 (반영 행 0 = 동시 요청이 같은 변경을 먼저 반영)
      */
     @Transactional
     public boolean toggleLike(Long postId, Long memberId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+        }
 
         // 사용자의 기존 좋아요 확인
         PostLike postLike = postLikeRepository.findByPostIdAndMemberId(postId, memberId).orElse(null);
 
         if (postLike == null) {
-            postLike = PostLike.builder()
-                    .post(post)
-                    .member(member)
-                    .isDeleted(false)
-                    .softDeleteType(null)
-                    .build();
-
-            postLikeRepository.save(postLike);
+            if (postLikeRepository.insertIfAbsent(postId, memberId) > 0) {
+                postRepository.increaseLikeCount(postId);
+            }
             return true;
-        } else {
-            if (postLike.getIsDeleted()) {
-                postLike.restore();
-                postLikeRepository.save(postLike);
-                return true;
-            } else {
-                postLike.softDeleteByMember();
-                postLikeRepository.save(postLike);
-                return false;
+        }
+
+        if (!postLike.getIsDeleted()) {
+            if (postLikeRepository.softDeleteIfActive(postLike.getId(), SoftDeleteType.MEMBER_ACTION) > 0) {
+                postRepository.decreaseLikeCount(postId);
             }
+            return false;
         }
+
+        // 게시글 삭제로 취소된 좋아요는 복구하지 않음
+        if (postLike.getSoftDeleteType() != SoftDeleteType.MEMBER_ACTION) {
+            return false;
+        }
+        if (postLikeRepository.restoreIfCancelled(postLike.getId(), SoftDeleteType.MEMBER_ACTION) > 0) {
+            postRepository.increaseLikeCount(postId);
+        }
+        return true;
     }
 
     /**
-     * 특정 게시글의 좋아요 개수 반환
+     * 특정 게시글의 좋아요 개수 반환 (post.like_count 단일 행 조회)
      */
     @Transactional(readOnly = true)
     public int getLikeCount(Long postId) {
-        return postLikeRepository.countByPostId(postId);
+        return postRepository.findLikeCountById(postId).orElse(0);
+    }
+
+    /**
+     * post.like_count 를 post_like 기준으로 보정
+     * - 게시글 ID 구간마다 짧은 트랜잭션으로 나눠 잠금 범위와 보유 시간을 제한
+     */
+    public void reconcileLikeCounts() {
+        long maxId = postRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileBatchSize) {
+            long toId = Math.min(maxId, fromId + reconcileBatchSize - 1);
+            long from = fromId;
+            Integer batch = transactionTemplate.execute(status -> postRepository.reconcileLikeCounts(from, toId));
+            updated += batch != null ? batch : 0;
+        }
+        if (updated > 0) {
+            log.warn("* 좋아요 수 불일치 보정: {}건", updated);
+        }
     }
 }
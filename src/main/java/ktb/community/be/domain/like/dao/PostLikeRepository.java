@@ -1,7 +1,9 @@
 package ktb.community.be.domain.like.dao;
 
 import ktb.community.be.domain.like.domain.PostLike;
+import ktb.community.be.domain.like.domain.SoftDeleteType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,12 +14,6 @@ import java.util.Optional;
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
-    /**
-    게시글 상세 조회
-     */
-    @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = :postId AND pl.isDeleted = false")
-    int countByPostId(@Param("postId") Long postId);
-
     /**
     게시글 삭제
      */
@@ -26,7 +22,35 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     /**
      * 특정 사용자와 게시글에 대한 좋아요 조회 (Soft Delete 포함)
+     * - 잠금 없는 일관된 읽기, 실제 변경은 아래 조건부 쿼리의 반영 행 수로 판단
      */
     @Query("SELECT pl FROM PostLike pl WHERE pl.post.id = :postId AND pl.member.id = :memberId")
     Optional<PostLike> findByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    /**
+     * 최초 좋아요 추가
+     * - unique_like 에 걸리면 무시하고 0 반환 (동시 요청이 먼저 추가한 경우)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, member_id, is_deleted, created_at, updated_at) " +
+            "VALUES (:postId, :memberId, 0, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    /**
+     * 활성 상태인 좋아요만 취소 (반영 행 수 0 이면 이미 취소됨)
+     */
+    @Modifying
+    @Query("UPDATE PostLike pl SET pl.isDeleted = true, pl.deletedAt = LOCAL DATETIME, " +
+            "pl.softDeleteType = :type, pl.updatedAt = LOCAL DATETIME " +
+            "WHERE pl.id = :id AND pl.isDeleted = false")
+    int softDeleteIfActive(@Param("id") Long id, @Param("type") SoftDeleteType type);
+
+    /**
+     * 사용자가 직접 취소한 좋아요만 복구 (반영 행 수 0 이면 이미 복구됐거나 게시글 삭제로 취소된 상태)
+     */
+    @Modifying
+    @Query("UPDATE PostLike pl SET pl.isDeleted = false, pl.deletedAt = NULL, " +
+            "pl.softDeleteType = NULL, pl.updatedAt = LOCAL DATETIME " +
+            "WHERE pl.id = :id AND pl.isDeleted = true AND pl.softDeleteType = :type")
+    int restoreIfCancelled(@Param("id") Long id, @Param("type") SoftDeleteType type);
 }
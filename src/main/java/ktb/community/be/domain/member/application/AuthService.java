@@ -1,16 +1,20 @@
 package ktb.community.be.domain.member.application;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import ktb.community.be.domain.member.dao.LegacyRefreshTokenRepository;
 import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.dao.RefreshTokenRepository;
+import ktb.community.be.domain.member.dao.RefreshTokenRepository.RotateResult;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.member.domain.RefreshToken;
 import ktb.community.be.domain.member.dto.LoginRequestDto;
 import ktb.community.be.domain.member.dto.MemberRequestDto;
 import ktb.community.be.domain.member.dto.MemberResponseDto;
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
+import ktb.community.be.domain.member.event.ProfileImageChangedEvent;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.security.PasswordVerifier;
 import ktb.community.be.global.security.TokenBlacklistService;
 import ktb.community.be.global.util.FileStorageService;
 import ktb.community.be.global.security.TokenDto;
@@ -18,41 +22,50 @@ import ktb.community.be.global.security.TokenProvider;
 import ktb.community.be.global.security.TokenRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final LegacyRefreshTokenRepository legacyRefreshTokenRepository;
     private final FileStorageService fileStorageService;
     private final MemberService memberService;
+    private final MemberUniquenessFilter memberUniquenessFilter;
     private final TokenBlacklistService tokenBlacklistService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
      */
     @Transactional
     public MemberResponseDto signup(MemberRequestDto memberRequestDto) {
-        // 1. 이메일 중복 검사
-        if (memberRepository.existsByEmail(memberRequestDto.getEmail())) {
+        // 1. 이메일 중복 검사 (필터에 없으면 DB 조회 생략)
+        if (memberUniquenessFilter.mightContainEmail(memberRequestDto.getEmail())
+                && memberRepository.existsByEmail(memberRequestDto.getEmail())) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "*중복된 이메일입니다.");
         }
 
-        // 2. 닉네임 중복 검사
-        if (memberRepository.existsByNickname(memberRequestDto.getNickname())) {
+        // 2. 닉네임 중복 검사 (필터에 없으면 DB 조회 생략)
+        if (memberUniquenessFilter.mightContainNickname(memberRequestDto.getNickname())
+                && memberRepository.existsByNickname(memberRequestDto.getNickname())) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "*중복된 닉네임입니다.");
         }
 
@@ -73,56 +86,78 @@ public class AuthService {
         String encodedPassword = passwordEncoder.encode(memberRequestDto.getPassword());
         Member member = memberRequestDto.toMember(encodedPassword, imageUrl);
 
-        return MemberResponseDto.of(memberRepository.save(member));
+        // 7. 사전 검사를 통과한 동시 가입은 unique 제약조건으로 걸러냄
+        Member savedMember;
+        try {
+            savedMember = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            // 롤백 후 실행되어 저장해 둔 프로필 이미지를 정리 (grace 이내면 기록 후 주기적으로 정리)
+            eventPublisher.publishEvent(new ImagesReleasedEvent(List.of(imageUrl)));
+            throw memberUniquenessFilter.toDuplicateException(e);
+        }
+        memberUniquenessFilter.add(savedMember.getEmail(), savedMember.getNickname());
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(savedMember.getId(), imageUrl));
+
+        return MemberResponseDto.of(savedMember);
     }
 
     /**
      * 로그인
+     * - 비밀번호 검증(BCrypt) 대기 중 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (복구는 MemberService 트랜잭션)
+     * - 탈퇴 회원 복구는 비밀번호 검증을 통과한 뒤에만 수행 (틀린 비밀번호로 계정이 복구되지 않도록)
      */
-    @Transactional
     public TokenDto login(LoginRequestDto loginRequestDto) {
-        Member member = getValidMemberByEmail(loginRequestDto.getEmail());
+        Member member = findLoginCandidate(loginRequestDto.getEmail());
         validatePassword(loginRequestDto.getPassword(), member.getPassword());
-        return generateAndSaveTokens(member, loginRequestDto.getPassword());
+
+        if (member.getIsDeleted()) {
+            member = restoreDeletedMember(loginRequestDto.getEmail(), member);
+        }
+        return generateAndSaveTokens(member);
     }
 
-    private Member getValidMemberByEmail(String email) {
+    /**
+     * 로그인 대상 회원 (활성 회원 우선, 없으면 가장 최근에 탈퇴한 계정)
+     */
+    private Member findLoginCandidate(String email) {
         List<Member> candidates = memberRepository.findAllByEmailIncludingDeleted(email);
         if (candidates.isEmpty()) {
             throw new CustomException(ErrorCode.MEMBER_NOT_FOUND, "존재하지 않는 회원입니다.");
         }
 
-        Member member = candidates.stream()
+        return candidates.stream()
                 .filter(m -> !m.getIsDeleted())
                 .findFirst()
+                .or(() -> candidates.stream()
+                        .filter(m -> m.getDeletedAt() != null)
+                        .max(Comparator.comparing(Member::getDeletedAt)))
                 .orElse(candidates.get(0));
+    }
 
-        if (member.getIsDeleted()) {
-            memberService.restoreIfPossible(email);
-            return memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND, "복구된 회원을 찾을 수 없습니다."));
-        }
-
-        return member;
+    private Member restoreDeletedMember(String email, Member verifiedMember) {
+        memberService.restoreIfPossible(email, verifiedMember.getId());
+        return memberRepository.findById(verifiedMember.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND, "복구된 회원을 찾을 수 없습니다."));
     }
 
     private void validatePassword(String rawPassword, String encodedPassword) {
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+        // 로그인당 한 번만 검증 (전용 풀에서 실행, 포화 시 429/503)
+        if (!passwordVerifier.matches(rawPassword, encodedPassword)) {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS, "비밀번호가 일치하지 않습니다.");
         }
     }
 
-    private TokenDto generateAndSaveTokens(Member member, String rawPassword) {
-        Authentication authentication = authenticationManagerBuilder.getObject()
-                .authenticate(new UsernamePasswordAuthenticationToken(member.getEmail(), rawPassword));
+    private TokenDto generateAndSaveTokens(Member member) {
+        // 비밀번호는 이미 검증했으므로 AuthenticationManager 로 다시 해시 검증하지 않음
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                member.getId().toString(), null,
+                List.of(new SimpleGrantedAuthority(member.getAuthority().toString())));
 
-        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication, member.getId());
+        // 기기(로그인)마다 새 세션으로 저장하여 다른 기기의 세션은 유지
+        String sessionId = tokenProvider.newSessionId();
+        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication, member.getId(), sessionId);
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .key(member.getId().toString())
-                .value(tokenDto.getRefreshToken())
-                .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenRepository.save(member.getId().toString(), sessionId, tokenDto.getRefreshToken());
 
         return tokenDto;
     }
@@ -136,55 +171,70 @@ public class AuthService {
         String refreshToken = tokenRequestDto.getRefreshToken();
 
         // 1. Refresh Token 유효성 검증
-        validateRefreshToken(refreshToken);
+        Claims refreshClaims = validateRefreshToken(refreshToken);
 
         // 2. Access Token 에서 Member ID 추출
-        Authentication authentication = tokenProvider.getAuthentication(accessToken);
+        Claims accessClaims = tokenProvider.parseClaims(accessToken);
+        Authentication authentication = tokenProvider.getAuthentication(accessClaims);
         String memberId = authentication.getName();
 
         // 3. accessToken vs refreshToken 의 subject 일치 여부 확인
-        validateTokenSubjectsMatch(memberId, refreshToken, accessToken);
-
-        // 4. 저장된 Refresh Token 조회
-        RefreshToken savedRefreshToken = getSavedRefreshTokenOrThrow(memberId);
-
-        // 5. 저장된 Refresh Token 과 요청된 Refresh Token 비교
-        checkRefreshTokenMatches(savedRefreshToken, refreshToken, memberId, accessToken);
+        validateTokenSubjectsMatch(memberId, refreshClaims);
 
-        // 6. 회원 정보 조회
+        // 4. 회원 정보 조회
         Member member = getMemberOrThrow(memberId);
 
-        // 7. 새로운 토큰 발급 및 저장
-        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication, member.getId());
-        RefreshToken newRefreshToken = savedRefreshToken.updateValue(tokenDto.getRefreshToken());
-        refreshTokenRepository.save(newRefreshToken);
+        // 5. 새로운 토큰 발급 (같은 세션 유지, 세션 ID 가 없는 이전 토큰은 새 세션 부여)
+        String sessionId = tokenProvider.getSessionId(refreshClaims);
+        String newSessionId = sessionId != null ? sessionId : tokenProvider.newSessionId();
+        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication, member.getId(), newSessionId);
+
+        // 6. 저장된 Refresh Token 이 요청된 값과 같을 때만 새 토큰으로 교체 (동시 재발급 중 하나만 성공)
+        RotateResult result = refreshTokenRepository.rotate(memberId, sessionId, refreshToken, newSessionId, tokenDto.getRefreshToken());
+        if (result == RotateResult.NOT_FOUND && sessionId == null && migrateLegacyRefreshToken(memberId)) {
+            result = refreshTokenRepository.rotate(memberId, null, refreshToken, newSessionId, tokenDto.getRefreshToken());
+        }
+        checkRotateResult(result, memberId, accessClaims.getId());
 
         return tokenDto;
     }
 
-    private void validateRefreshToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken)) {
+    private Claims validateRefreshToken(String refreshToken) {
+        Claims refreshClaims = tokenProvider.parseVerifiedClaims(refreshToken);
+        if (refreshClaims == null) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 Refresh Token입니다.");
         }
+        return refreshClaims;
     }
 
-    private void validateTokenSubjectsMatch(String memberId, String refreshToken, String accessToken) {
-        String refreshSubject = tokenProvider.getSubject(refreshToken);
+    private void validateTokenSubjectsMatch(String memberId, Claims refreshClaims) {
+        String refreshSubject = refreshClaims.getSubject();
         if (!memberId.equals(refreshSubject)) {
             log.warn("[토큰 위조 의심] accessToken의 유저ID: {}, refreshToken의 subject: {}", memberId, refreshSubject);
             throw new CustomException(ErrorCode.INVALID_REQUEST, "토큰의 유저 정보가 일치하지 않습니다.");
         }
     }
 
-    private RefreshToken getSavedRefreshTokenOrThrow(String memberId) {
-        return refreshTokenRepository.findByKey(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "로그아웃된 사용자입니다."));
+    /**
+     * MySQL 에 남아 있는 이전 Refresh Token 을 Redis 로 옮김 (이전 성공 여부 반환)
+     */
+    private boolean migrateLegacyRefreshToken(String memberId) {
+        Optional<RefreshToken> legacyToken = legacyRefreshTokenRepository.findByKey(memberId);
+        if (legacyToken.isEmpty()) return false;
+
+        // 그 사이 새로 로그인하여 Redis 에 저장된 토큰이 있으면 덮어쓰지 않음
+        refreshTokenRepository.saveLegacyIfAbsent(memberId, legacyToken.get().getValue());
+        legacyRefreshTokenRepository.delete(legacyToken.get());
+        return true;
     }
 
-    private void checkRefreshTokenMatches(RefreshToken savedToken, String incomingToken, String memberId, String accessToken) {
-        if (!savedToken.getValue().equals(incomingToken)) {
-            log.warn("[토큰 위조 의심] memberId: {}, accessToken은 {}, refreshToken은 DB에 존재하지 않음 또는 일치하지 않음",
-                    memberId, accessToken);
+    private void checkRotateResult(RotateResult result, String memberId, String accessTokenId) {
+        if (result == RotateResult.NOT_FOUND) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "로그아웃된 사용자입니다.");
+        }
+        if (result == RotateResult.MISMATCH) {
+            log.warn("[토큰 위조 의심] memberId: {}, accessToken jti: {}, refreshToken은 DB에 존재하지 않음 또는 일치하지 않음",
+                    memberId, accessTokenId);
             throw new CustomException(ErrorCode.INVALID_REQUEST, "토큰의 유저 정보가 일치하지 않습니다.");
         }
     }
@@ -200,24 +250,23 @@ public class AuthService {
     @Transactional
     public void logout(TokenRequestDto tokenRequestDto) {
         // 1. Refresh Token 검증
-        if (!tokenProvider.validateToken(tokenRequestDto.getRefreshToken())) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 Refresh Token입니다.");
-        }
+        Claims refreshClaims = validateRefreshToken(tokenRequestDto.getRefreshToken());
 
-        // 2. 현재 로그인한 사용자의 Authentication 정보 가져오기
-        Authentication authentication = tokenProvider.getAuthentication(tokenRequestDto.getAccessToken());
+        // 2. 현재 로그인한 사용자의 Authentication 정보 가져오기 (Access Token 은 한 번만 파싱)
+        Claims claims = tokenProvider.parseClaims(tokenRequestDto.getAccessToken());
+        Authentication authentication = tokenProvider.getAuthentication(claims);
 
-        // 3. Refresh Token이 존재하는지 확인하고 삭제
-        RefreshToken refreshToken = refreshTokenRepository.findByKey(authentication.getName())
-                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "이미 로그아웃된 사용자입니다."));
-
-        refreshTokenRepository.delete(refreshToken);
-
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(tokenProvider.getKey())
-                .build()
-                .parseClaimsJws(tokenRequestDto.getAccessToken())
-                .getBody();
+        // 3. 현재 기기의 세션만 확인하고 삭제 (이전 MySQL 저장분 포함)
+        String memberId = authentication.getName();
+        String sessionId = tokenProvider.getSessionId(refreshClaims);
+        if (!refreshTokenRepository.delete(memberId, sessionId)) {
+            if (sessionId != null) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "이미 로그아웃된 사용자입니다.");
+            }
+            RefreshToken legacyToken = legacyRefreshTokenRepository.findByKey(memberId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "이미 로그아웃된 사용자입니다."));
+            legacyRefreshTokenRepository.delete(legacyToken);
+        }
 
         long now = System.currentTimeMillis();
         long exp = claims.getExpiration().getTime();
@@ -227,9 +276,7 @@ public class AuthService {
             return;
         }
 
-        tokenBlacklistService.blacklistAccessToken(tokenRequestDto.getAccessToken(), remainingTime);
-
-        String accessToken = tokenRequestDto.getAccessToken();
-        tokenBlacklistService.blacklistAccessToken(accessToken, remainingTime);
+        String tokenId = tokenProvider.getTokenId(claims, tokenRequestDto.getAccessToken());
+        tokenBlacklistService.blacklistAccessToken(tokenId, claims.getExpiration());
     }
 }
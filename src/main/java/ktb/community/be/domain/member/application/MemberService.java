@@ -1,13 +1,18 @@
 package ktb.community.be.domain.member.application;
 
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
 import ktb.community.be.domain.member.dao.MemberRepository;
 import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.member.dto.MemberResponseDto;
 import ktb.community.be.domain.member.dto.PasswordUpdateRequestDto;
+import ktb.community.be.domain.member.event.MemberStatusChangedEvent;
+import ktb.community.be.domain.member.event.ProfileImageChangedEvent;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
 import ktb.community.be.global.util.FileStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,6 +29,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final FileStorageService fileStorageService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberUniquenessFilter memberUniquenessFilter;
 
     public MemberResponseDto findMemberInfoById(Long memberId) {
         return memberRepository.findById(memberId)
@@ -52,12 +59,18 @@ public class MemberService {
         if (isNicknameProvided) {
             validateNickname(nickname, member);
             member.updateNickname(nickname);
+            flushUniqueKeys(member);
         }
 
         // 이미지가 전달된 경우에만 업데이트
         if (isImageProvided) {
+            String previousProfileImagePath = member.getProfileImageUrl();
             String newProfileImagePath = fileStorageService.storeProfileImage(profileImage);
             member.updateProfileImage(newProfileImagePath);
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(memberId, newProfileImagePath));
+            if (!newProfileImagePath.equals(previousProfileImagePath)) {
+                eventPublisher.publishEvent(new ImagesReleasedEvent(List.of(previousProfileImagePath)));
+            }
         }
 
         // 둘 다 null 또는 변경사항 없으면 예외 (선택사항)
@@ -77,8 +90,9 @@ public class MemberService {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "*닉네임은 최대 10자까지 작성 가능합니다.");
         }
 
-        // 현재 사용자의 닉네임이 아닌 경우만 중복 검사
+        // 현재 사용자의 닉네임이 아닌 경우만 중복 검사 (필터에 없으면 DB 조회 생략)
         if (!nickname.equals(currentMember.getNickname()) &&
+                memberUniquenessFilter.mightContainNickname(nickname) &&
                 memberRepository.existsByNickname(nickname)) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "*중복된 닉네임입니다.");
         }
@@ -118,14 +132,16 @@ public class MemberService {
         }
 
         member.softDelete();
+        eventPublisher.publishEvent(new MemberStatusChangedEvent(memberId));
     }
 
     /**
      * 로그인 시 탈퇴한 회원인지 확인하고,
      * 탈퇴 후 30일 이내면 복구 처리 진행
+     * - 호출 측에서 비밀번호 검증을 통과한 회원(memberId)만 복구
      */
     @Transactional
-    public void restoreIfPossible(String email) {
+    public void restoreIfPossible(String email, Long memberId) {
         List<Member> candidates = memberRepository.findAllByEmailIncludingDeleted(email);
 
         if (candidates.isEmpty()) {
@@ -139,6 +155,7 @@ public class MemberService {
 
         // 복구 가능 후보 찾기 (deletedAt + 30초 이내)
         Member restorable = candidates.stream()
+                .filter(m -> m.getId().equals(memberId))
                 .filter(Member::getIsDeleted)
                 .filter(m -> {
                     LocalDateTime deletedAt = m.getDeletedAt();
@@ -164,6 +181,8 @@ public class MemberService {
         restorable.restoreAccount();
         restorable.updateEmail(originalEmail);
         restorable.updateNickname(originalNickname);
+        flushUniqueKeys(restorable);
+        eventPublisher.publishEvent(new MemberStatusChangedEvent(restorable.getId()));
     }
 
     private String extractOriginalEmail(String deletedEmail) {
@@ -200,6 +219,19 @@ public class MemberService {
         for (Member member : expiredMembers) {
             System.out.println("삭제 처리 대상: " + member.getEmail());
             member.markAsDeleted();
+            memberUniquenessFilter.add(member.getEmail(), member.getNickname());
         }
     }
+
+    /**
+     * 변경된 이메일/닉네임을 즉시 반영하여 unique 제약조건 위반을 중복 오류로 응답하고, 중복 검사 필터에 추가
+     */
+    private void flushUniqueKeys(Member member) {
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw memberUniquenessFilter.toDuplicateException(e);
+        }
+        memberUniquenessFilter.add(member.getEmail(), member.getNickname());
+    }
 }
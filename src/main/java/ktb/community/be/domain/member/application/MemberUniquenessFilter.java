@@ -0,0 +1,115 @@
+package ktb.community.be.domain.member.application;
+
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.dto.MemberUniqueKeyDto;
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이메일/닉네임 중복 검사용 Bloom Filter
+ * - 필터에 없으면 "확실히 사용 가능" 으로 판단하여 exists 쿼리 생략, 있을 때만 DB 로 확인
+ * - 기동 시 전체 회원으로 구성하고 가입/닉네임 변경/복구/익명화 시 추가, 익명화 작업 후 재구성 (변경 전 값 정리)
+ * - 다른 서버에서 가입한 값은 반영되지 않을 수 있으므로 최종 정합성은 unique 제약조건으로 보장
+ */
+@Slf4j
+@Component
+public class MemberUniquenessFilter {
+
+    private final MemberRepository memberRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;          // 구성 전에는 null (항상 DB 로 확인)
+    private volatile Filters rebuildingFilters; // 재구성 중 추가된 값도 새 필터에 반영
+
+    public MemberUniquenessFilter(MemberRepository memberRepository,
+                                  @Value("${member.uniqueness-filter.expected-insertions:1000000}") long expectedInsertions,
+                                  @Value("${member.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[중복 검사 필터] 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        Filters rebuilt = new Filters(expectedInsertions, falsePositiveRate);
+        rebuildingFilters = rebuilt;
+        try {
+            List<MemberUniqueKeyDto> keys = memberRepository.findAllUniqueKeys();
+            keys.forEach(key -> rebuilt.put(key.getEmail(), key.getNickname()));
+            filters = rebuilt;
+            log.info("[중복 검사 필터] 구성 완료: {}명", keys.size());
+        } finally {
+            rebuildingFilters = null;
+        }
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.emails.mightContain(email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters current = filters;
+        return current == null || current.nicknames.mightContain(nickname);
+    }
+
+    public void add(String email, String nickname) {
+        Filters current = filters;
+        if (current != null) current.put(email, nickname);
+
+        Filters rebuilding = rebuildingFilters;
+        if (rebuilding != null) rebuilding.put(email, nickname);
+    }
+
+    /**
+     * unique 제약조건 위반을 중복 이메일/닉네임 오류로 변환 (필터/exists 검사를 통과한 동시 가입 등)
+     */
+    public CustomException toDuplicateException(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+
+        if (constraintName != null && constraintName.contains("unique_email")) {
+            return new CustomException(ErrorCode.INVALID_REQUEST, "*중복된 이메일입니다.");
+        }
+        if (constraintName != null && constraintName.contains("unique_nickname")) {
+            return new CustomException(ErrorCode.INVALID_REQUEST, "*중복된 닉네임입니다.");
+        }
+        return new CustomException(ErrorCode.INVALID_REQUEST, "*이미 사용 중인 정보입니다.");
+    }
+
+    private static class Filters {
+
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.nicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        private void put(String email, String nickname) {
+            if (email != null) emails.put(email);
+            if (nickname != null) nicknames.put(nickname);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package ktb.community.be.domain.member.dao;
+
+import ktb.community.be.domain.member.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 이전 MySQL refresh_token 테이블 (Redis 이전 전 발급분 조회/정리 용도)
+ * - 사용 위치: Redis 에 없는 Refresh Token 의 지연 이전 (AuthService)
+ */
+@Repository
+public interface LegacyRefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    Optional<RefreshToken> findByKey(String key);
+}
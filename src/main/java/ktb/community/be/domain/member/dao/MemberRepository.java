@@ -1,7 +1,9 @@
 package ktb.community.be.domain.member.dao;
 
 import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.member.dto.MemberUniqueKeyDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +21,30 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
 
     boolean existsByNickname(String nickname);
 
+    /**
+     * 같은 파일을 프로필 이미지로 쓰는 회원 수 (탈퇴 회원 포함)
+     * - 사용 위치: 미참조 이미지 파일 삭제 (ImageGarbageCollector)
+     */
+    long countByProfileImageUrl(String profileImageUrl);
+
+    /**
+     * 전체 회원의 이메일/닉네임 조회 (탈퇴/익명화 회원 포함, unique 제약조건과 동일 범위)
+     * - 사용 위치: 중복 검사 필터 구성 (MemberUniquenessFilter)
+     */
+    @Query("SELECT m.email AS email, m.nickname AS nickname FROM Member m")
+    List<MemberUniqueKeyDto> findAllUniqueKeys();
+
+    /**
+     * 프로필 썸네일 URL 기록 (생성 도중 프로필 이미지가 바뀌었으면 반영하지 않음)
+     * - 사용 위치: 이미지 축소본 생성 (ImageVariantService)
+     */
+    @Modifying
+    @Query("UPDATE Member m SET m.profileThumbnailUrl = :thumbnailUrl " +
+            "WHERE m.id = :memberId AND m.profileImageUrl = :profileImageUrl")
+    int updateProfileThumbnail(@Param("memberId") Long memberId,
+                               @Param("profileImageUrl") String profileImageUrl,
+                               @Param("thumbnailUrl") String thumbnailUrl);
+
     /**
      * 현재 활성 회원 여부와 관계없이 동일 이메일 또는 deleted_이메일_UUID 형식 포함 회원 모두 조회
      * - 복수 탈퇴 계정 존재 시 복구 우선순위 판단용
@@ -1,13 +1,152 @@
 package ktb.community.be.domain.member.dao;
 
-import ktb.community.be.domain.member.domain.RefreshToken;
-import org.springframework.data.jpa.repository.JpaRepository;
+import ktb.community.be.global.security.TokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis 기반 Refresh Token 저장소 (기기별 세션)
+ * - 세션 키: refresh:{memberId}:{sessionId}, TTL 은 Refresh Token 유효 기간(7일)과 동일
+ * - 회원별 세션 목록: refresh:sessions:{memberId} (ZSET, score = 마지막 사용 시각)
+ *   최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션부터 제거 (LRU)
+ * - 재발급 시 저장된 값이 요청 값과 같을 때만 교체 (Lua 스크립트로 원자적 비교 후 교체, 키 하나만 조회)
+ * - {memberId} 를 해시 태그로 사용하여 한 회원의 키는 같은 슬롯에 위치 (Lua 스크립트는 같은 슬롯의 키만 사용)
+ * - sessionId 가 없는 이전 발급 토큰은 refresh:{memberId}:legacy 에 보관
+ *   해시 태그가 없는 예전 키(refresh:memberId)는 스크립트 밖에서 GETDEL 로 꺼내 옮긴 뒤 교체
+ */
 @Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public class RefreshTokenRepository {
 
-    Optional<RefreshToken> findByKey(String key);
+    private static final String KEY_PREFIX = "refresh:";
+    private static final String LEGACY_SESSION = "legacy";
+
+    // KEYS[2]: 세션 목록, ARGV[3]: TTL, ARGV[5]: 사용 시각, ARGV[6]: 최대 세션 수, ARGV[7]: 세션 키 접두사
+    private static final String TOUCH_AND_TRIM =
+            "redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6]) " +
+            "if overflow > 0 then " +
+            "  local evicted = redis.call('ZPOPMIN', KEYS[2], overflow) " +
+            "  for i = 1, #evicted, 2 do redis.call('DEL', ARGV[7] .. evicted[i]) end " +
+            "end ";
+
+    // KEYS[1]: 세션 키 / ARGV[1]: 토큰, ARGV[4]: 세션 ID
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            TOUCH_AND_TRIM +
+            "return 1",
+            Long.class);
+
+    // KEYS[1]: 기존 세션 키, KEYS[3]: 새 세션 키 / ARGV[1]: 기대 값, ARGV[2]: 새 토큰, ARGV[4]: 새 세션 ID
+    // 1: 교체 성공, 0: 값 불일치, -1: 저장된 토큰 없음 (로그아웃 또는 LRU 제거)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return -1 end " +
+            "if current ~= ARGV[1] then return 0 end " +
+            "if KEYS[1] ~= KEYS[3] then redis.call('DEL', KEYS[1]) end " +
+            "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3]) " +
+            TOUCH_AND_TRIM +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSessions;
+
+    public RefreshTokenRepository(StringRedisTemplate redisTemplate,
+                                  @Value("${jwt.refresh.max-sessions:5}") int maxSessions) {
+        this.redisTemplate = redisTemplate;
+        this.maxSessions = maxSessions;
+    }
+
+    public enum RotateResult {
+        ROTATED, MISMATCH, NOT_FOUND
+    }
+
+    /**
+     * 새 세션 저장 (최대 세션 수 초과 시 가장 오래 사용하지 않은 세션 제거)
+     */
+    public void save(String memberId, String sessionId, String refreshToken) {
+        redisTemplate.execute(CREATE_SCRIPT,
+                List.of(sessionKey(memberId, sessionId), sessionsKey(memberId)),
+                refreshToken, "", ttl(), sessionId, now(), String.valueOf(maxSessions), sessionKeyPrefix(memberId));
+    }
+
+    /**
+     * 세션 ID 없는 이전 토큰 저장 (MySQL 저장분 이전 용도, 이미 있으면 덮어쓰지 않음)
+     */
+    public void saveLegacyIfAbsent(String memberId, String refreshToken) {
+        redisTemplate.opsForValue().setIfAbsent(sessionKey(memberId, null), refreshToken,
+                TokenProvider.REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저장된 토큰이 expectedToken 일 때만 newToken 으로 교체 (동시 재발급 요청 중 하나만 성공)
+     * - sessionId 가 없는 이전 토큰은 새 세션으로 옮기면서 교체
+     */
+    public RotateResult rotate(String memberId, String sessionId, String expectedToken,
+                               String newSessionId, String newToken) {
+        if (sessionId == null) {
+            moveUntaggedLegacyKey(memberId);
+        }
+
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(sessionKey(memberId, sessionId), sessionsKey(memberId), sessionKey(memberId, newSessionId)),
+                expectedToken, newToken, ttl(), newSessionId, now(), String.valueOf(maxSessions), sessionKeyPrefix(memberId));
+
+        if (result == null || result < 0) return RotateResult.NOT_FOUND;
+        return result == 1 ? RotateResult.ROTATED : RotateResult.MISMATCH;
+    }
+
+    public boolean delete(String memberId, String sessionId) {
+        if (sessionId != null) {
+            redisTemplate.opsForZSet().remove(sessionsKey(memberId), sessionId);
+            return Boolean.TRUE.equals(redisTemplate.delete(sessionKey(memberId, sessionId)));
+        }
+
+        // 슬롯이 다른 두 키를 한 번에 DEL 하지 않음 (Cluster CROSSSLOT)
+        boolean deletedUntagged = Boolean.TRUE.equals(redisTemplate.delete(untaggedLegacyKey(memberId)));
+        boolean deletedLegacy = Boolean.TRUE.equals(redisTemplate.delete(sessionKey(memberId, null)));
+        return deletedUntagged || deletedLegacy;
+    }
+
+    /**
+     * 해시 태그 없는 예전 키를 회원 슬롯의 legacy 키로 이동
+     * - GETDEL 로 꺼내므로 동시 요청 중 한 요청만 옮기고, 이미 옮겨진 값이 있으면 덮어쓰지 않음
+     */
+    private void moveUntaggedLegacyKey(String memberId) {
+        String legacyToken = redisTemplate.opsForValue().getAndDelete(untaggedLegacyKey(memberId));
+        if (legacyToken != null) {
+            saveLegacyIfAbsent(memberId, legacyToken);
+        }
+    }
+
+    private String sessionKey(String memberId, String sessionId) {
+        return sessionKeyPrefix(memberId) + (sessionId == null ? LEGACY_SESSION : sessionId);
+    }
+
+    private String untaggedLegacyKey(String memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String sessionKeyPrefix(String memberId) {
+        return KEY_PREFIX + "{" + memberId + "}:";
+    }
+
+    private String sessionsKey(String memberId) {
+        return KEY_PREFIX + "sessions:{" + memberId + "}";
+    }
+
+    private static String ttl() {
+        return String.valueOf(TokenProvider.REFRESH_TOKEN_EXPIRE_TIME);
+    }
+
+    private static String now() {
+        return String.valueOf(System.currentTimeMillis());
+    }
 }
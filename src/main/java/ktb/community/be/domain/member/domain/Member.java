@@ -17,6 +17,8 @@ import java.util.UUID;
 @Table(name = "member", uniqueConstraints = {
         @UniqueConstraint(name = "unique_email", columnNames = "email"),
         @UniqueConstraint(name = "unique_nickname", columnNames = "nickname")
+}, indexes = {
+        @Index(name = "idx_member_profile_image_url", columnList = "profile_image_url")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,6 +42,10 @@ public class Member extends BaseTimeEntity {
     @Column(length = 512, nullable = false)
     private String profileImageUrl;
 
+    // 비동기로 생성되는 프로필 썸네일 (생성 전에는 null)
+    @Column(length = 512)
+    private String profileThumbnailUrl;
+
     @Enumerated(EnumType.STRING)
     private Authority authority;
 
@@ -115,6 +121,14 @@ public class Member extends BaseTimeEntity {
 
     public void updateProfileImage(String newProfileImageUrl) {
         this.profileImageUrl = newProfileImageUrl;
+        this.profileThumbnailUrl = null;
+    }
+
+    /**
+     * 목록/댓글 아바타용 이미지 URL (썸네일이 아직 없으면 원본)
+     */
+    public String getAvatarUrl() {
+        return profileThumbnailUrl != null ? profileThumbnailUrl : profileImageUrl;
     }
 
     public void updatePassword(String newPassword) {
@@ -7,6 +7,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 이전 MySQL 저장 방식의 Refresh Token (신규 발급분은 Redis 에 저장, RefreshTokenRepository)
+ * - Redis 에 없는 토큰을 재발급/로그아웃 시 지연 이전하기 위해서만 유지
+ */
 @Getter
 @NoArgsConstructor
 @Entity
@@ -24,9 +28,4 @@ public class RefreshToken {
         this.key = key;
         this.value = value;
     }
-
-    public RefreshToken updateValue(String token) {
-        this.value = token;
-        return this;
-    }
 }
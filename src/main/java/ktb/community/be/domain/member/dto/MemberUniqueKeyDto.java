@@ -0,0 +1,11 @@
+package ktb.community.be.domain.member.dto;
+
+/**
+ * 중복 검사용 이메일/닉네임 프로젝션
+ */
+public interface MemberUniqueKeyDto {
+
+    String getEmail();
+
+    String getNickname();
+}
@@ -0,0 +1,15 @@
+package ktb.community.be.domain.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 탈퇴/복구 등으로 인증 가능 여부가 바뀌었음을 알리는 이벤트
+ * - 사용 위치: 회원 상태 캐시 무효화 (MemberStatusCache)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberStatusChangedEvent {
+
+    private final Long memberId;
+}
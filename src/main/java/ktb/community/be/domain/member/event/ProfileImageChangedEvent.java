@@ -0,0 +1,16 @@
+package ktb.community.be.domain.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 프로필 이미지가 새로 저장되었음을 알리는 이벤트
+ * - 사용 위치: 프로필 썸네일 생성 (ImageVariantService)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageChangedEvent {
+
+    private final Long memberId;
+    private final String profileImageUrl;
+}
@@ -17,7 +17,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -68,10 +67,10 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success("게시글이 삭제되었습니다."));
     }
 
-    @Operation(summary = "게시글 전체 조회", description = "커서 기반 페이지네이션을 사용하여 게시글을 최신순으로 조회합니다.")
+    @Operation(summary = "게시글 전체 조회", description = "커서 기반 페이지네이션을 사용하여 게시글을 최신순으로 조회합니다. (cursor: 이전 응답의 마지막 게시글 cursor 값)")
     @GetMapping
     public ResponseEntity<ApiResponse<List<PostListResponseDto>>> getAllPosts(
-            @RequestParam(required = false) LocalDateTime cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
         List<PostListResponseDto> posts = postService.getAllPosts(cursor, PageRequest.of(0, size));
         return ResponseEntity.ok(ApiResponse.success("게시글 목록을 조회했습니다.", posts));
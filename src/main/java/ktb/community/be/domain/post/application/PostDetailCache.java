@@ -0,0 +1,146 @@
+package ktb.community.be.domain.post.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ktb.community.be.domain.post.dto.PostDetailResponseDto;
+import ktb.community.be.domain.post.event.PostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 캐시 (로컬 Caffeine + 선택적 Redis 2단 구성)
+ * - 조회수/좋아요 수/댓글 수는 캐시 값이 아닌 조회 시점의 값으로 덮어써서 반환 (PostService.getPostDetail)
+ * - 게시글/댓글/이미지 변경 시 PostChangedEvent 로 커밋 이후 무효화
+ * - 무효화 메시지는 항상 pub/sub 으로 전파하여 다른 서버의 로컬 캐시도 함께 제거 (유실 대비로 로컬 TTL 은 짧게 유지)
+ * - Redis 값은 게시글별 세대 번호를 키에 포함, 무효화 시 세대를 올려 늦게 끝난 로딩이 쓴 이전 내용은 읽히지 않음
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String REDIS_KEY_PREFIX = "post:detail:";
+    private static final String GENERATION_KEY_PREFIX = "post:detail:gen:";
+    private static final String EVICT_CHANNEL = "post:detail:evict";
+
+    private final Cache<Long, PostDetailResponseDto> localCache;
+    private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    public PostDetailCache(RedisTemplate<String, Object> objectRedisTemplate,
+                           StringRedisTemplate stringRedisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           ObjectMapper objectMapper,
+                           @Value("${post.detail-cache.local.max-size:10000}") long localMaxSize,
+                           @Value("${post.detail-cache.local.ttl-seconds:60}") long localTtlSeconds,
+                           @Value("${post.detail-cache.redis.enabled:false}") boolean redisEnabled,
+                           @Value("${post.detail-cache.redis.ttl-seconds:600}") long redisTtlSeconds) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.objectRedisTemplate = objectRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회 (로컬 → Redis → loader 순서, 같은 게시글에 대한 동시 미스는 한 번만 로딩)
+     * - 로딩 중인 키의 무효화는 로딩이 끝날 때까지 대기 후 제거되므로 로컬에 이전 내용이 남지 않음
+     */
+    public PostDetailResponseDto get(Long postId, Supplier<PostDetailResponseDto> loader) {
+        return localCache.get(postId, id -> {
+            String redisKey = redisKey(id);
+            PostDetailResponseDto cached = getFromRedis(redisKey);
+            if (cached != null) return cached;
+
+            PostDetailResponseDto loaded = loader.get();
+            putToRedis(redisKey, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 게시글 변경 트랜잭션 커밋 이후 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    public void evict(Long postId) {
+        localCache.invalidate(postId);
+
+        try {
+            if (redisEnabled) {
+                // 세대 키는 값 키보다 오래 유지해야 만료 후 이전 세대 번호가 재사용되지 않음
+                String generationKey = GENERATION_KEY_PREFIX + postId;
+                stringRedisTemplate.opsForValue().increment(generationKey);
+                stringRedisTemplate.expire(generationKey, redisTtl.multipliedBy(2));
+            }
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, postId.toString());
+        } catch (Exception e) {
+            log.warn("[게시글 캐시] Redis 무효화 실패 postId={}: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 세대의 Redis 값 키 (Redis 미사용 또는 세대 조회 실패 시 null → Redis 단계 건너뜀)
+     */
+    private String redisKey(Long postId) {
+        if (!redisEnabled) return null;
+
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + postId);
+            return REDIS_KEY_PREFIX + postId + ":" + (generation != null ? generation : "0");
+        } catch (Exception e) {
+            log.warn("[게시글 캐시] Redis 세대 조회 실패 postId={}: {}", postId, e.getMessage());
+            return null;
+        }
+    }
+
+    private PostDetailResponseDto getFromRedis(String redisKey) {
+        if (redisKey == null) return null;
+
+        try {
+            Object json = objectRedisTemplate.opsForValue().get(redisKey);
+            return json == null ? null : objectMapper.readValue(json.toString(), PostDetailResponseDto.class);
+        } catch (Exception e) {
+            log.warn("[게시글 캐시] Redis 조회 실패 key={}: {}", redisKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String redisKey, PostDetailResponseDto dto) {
+        if (redisKey == null) return;
+
+        try {
+            objectRedisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(dto), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("[게시글 캐시] 직렬화 실패 key={}: {}", redisKey, e.getMessage());
+        } catch (Exception e) {
+            log.warn("[게시글 캐시] Redis 저장 실패 key={}: {}", redisKey, e.getMessage());
+        }
+    }
+}
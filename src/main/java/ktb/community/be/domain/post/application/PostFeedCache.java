@@ -0,0 +1,118 @@
+package ktb.community.be.domain.post.application;
+
+import ktb.community.be.domain.post.dto.PostListResponseDto;
+import ktb.community.be.domain.post.event.PostCreatedEvent;
+import ktb.community.be.domain.post.event.PostDeletedEvent;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 첫 구간(커서 없는 요청) 스냅샷 캐시
+ * - 최신 게시글 capacity 개를 메모리에 보관하여 DB 조회 없이 응답
+ * - 작성/삭제는 커밋 이후 스냅샷에 바로 반영하고, 카운터/제목 변경은 주기적 재적재로 반영 (PostFeedRefreshScheduler)
+ * - 스냅샷이 없을 때 동시에 들어온 요청은 하나의 DB 조회 결과를 함께 사용
+ */
+@Component
+public class PostFeedCache {
+
+    @Getter
+    private final int capacity;
+
+    private final AtomicReference<CompletableFuture<List<PostListResponseDto>>> loading = new AtomicReference<>();
+
+    private volatile List<PostListResponseDto> snapshot;
+
+    // 작성/삭제 반영 횟수 (재적재 도중 반영된 변경을 덮어쓰지 않기 위함)
+    private long version;
+
+    public PostFeedCache(@Value("${post.feed-cache.capacity:200}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 요청한 개수가 스냅샷 범위 안인지 여부
+     */
+    public boolean covers(int size) {
+        return size > 0 && size <= capacity;
+    }
+
+    /**
+     * 최신 게시글 size 개 반환 (스냅샷이 없으면 loader 로 적재)
+     */
+    public List<PostListResponseDto> getHead(int size, Supplier<List<PostListResponseDto>> loader) {
+        List<PostListResponseDto> current = snapshot;
+        if (current == null) {
+            current = load(loader);
+        }
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    /**
+     * 스냅샷 재적재
+     */
+    public void refresh(Supplier<List<PostListResponseDto>> loader) {
+        load(loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostCreated(PostCreatedEvent event) {
+        if (snapshot == null) return;
+
+        List<PostListResponseDto> updated = new ArrayList<>(snapshot.size() + 1);
+        updated.add(event.getPost());
+        updated.addAll(snapshot.subList(0, Math.min(snapshot.size(), capacity - 1)));
+        snapshot = List.copyOf(updated);
+        version++;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        if (snapshot == null) return;
+
+        snapshot = snapshot.stream()
+                .filter(post -> !post.getId().equals(event.getPostId()))
+                .toList();
+        version++;
+    }
+
+    private List<PostListResponseDto> load(Supplier<List<PostListResponseDto>> loader) {
+        CompletableFuture<List<PostListResponseDto>> future = new CompletableFuture<>();
+        CompletableFuture<List<PostListResponseDto>> inFlight = loading.compareAndExchange(null, future);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            long startVersion = currentVersion();
+            List<PostListResponseDto> loaded = List.copyOf(loader.get());
+            List<PostListResponseDto> result = replaceIfUnchanged(startVersion, loaded);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.set(null);
+        }
+    }
+
+    private synchronized long currentVersion() {
+        return version;
+    }
+
+    // 적재 도중 작성/삭제가 반영되었다면 기존 스냅샷을 유지 (다음 재적재 주기에 반영)
+    private synchronized List<PostListResponseDto> replaceIfUnchanged(long startVersion, List<PostListResponseDto> loaded) {
+        if (snapshot == null || version == startVersion) {
+            snapshot = loaded;
+        }
+        return snapshot;
+    }
+}
@@ -6,7 +6,9 @@ import ktb.community.be.domain.comment.domain.PostComment;
 import ktb.community.be.domain.comment.dto.CommentResponseDto;
 import ktb.community.be.domain.image.application.PostImageService;
 import ktb.community.be.domain.image.dao.PostImageRepository;
+import ktb.community.be.domain.image.dao.PresignedUploadRepository;
 import ktb.community.be.domain.image.domain.PostImage;
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
 import ktb.community.be.domain.like.dao.PostLikeRepository;
 import ktb.community.be.domain.like.domain.PostLike;
 import ktb.community.be.domain.member.dao.MemberRepository;
@@ -14,20 +16,26 @@ import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.domain.post.dao.PostRepository;
 import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.post.dto.*;
+import ktb.community.be.domain.post.event.PostChangedEvent;
+import ktb.community.be.domain.post.event.PostCreatedEvent;
+import ktb.community.be.domain.post.event.PostDeletedEvent;
 import ktb.community.be.global.domain.BaseTimeEntity;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
 import ktb.community.be.global.util.FileStorageService;
+import ktb.community.be.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -37,111 +45,235 @@ public class PostService {
     private final PostCommentRepository postCommentRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostImageRepository postImageRepository;
+    private final PresignedUploadRepository presignedUploadRepository;
     private final MemberRepository memberRepository;
     private final PostImageService postImageService;
     private final PostCommentService postCommentService;
     private final FileStorageService fileStorageService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final PostFeedCache postFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글에 대한 이미지 업로드 처리
+     * - 파일은 트랜잭션 밖에서 먼저 저장 (디스크 I/O 동안 DB 커넥션을 점유하지 않음)
      */
-    @Transactional
     public void uploadImages(Long postId, Long memberId,
                              List<MultipartFile> images, List<Integer> orderIndexes) {
-        Post post = findPostByIdAndValidateOwner(postId, memberId);
-        List<PostImage> postImages = buildPostImages(images, orderIndexes, post, post.getMember());
-        postImageRepository.saveAll(postImages);
+        postImageService.validateOrderIndexes(images, orderIndexes);
+        postImageService.findPostByIdAndValidateOwner(postId, memberId); // 권한 없는 요청은 파일 저장 전에 거절
+
+        List<String> imageUrls = fileStorageService.storePostImages(images);
+        executeOrDeleteFiles(imageUrls, () -> {
+            Post post = findPostByIdAndValidateOwner(postId, memberId);
+            postImageService.saveNewImages(post, post.getMember(), imageUrls, orderIndexes);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+            return null;
+        });
+    }
+
+    /**
+     * 저장소에 직접 업로드된 이미지를 게시글에 등록
+     * - 이미지 바이트는 서버를 거치지 않고, 여기서는 업로드 여부만 확인 후 DB 에 기록
+     * - 이 회원이 발급받고 아직 등록하지 않은 URL 만 허용 (다른 회원의 업로드 key 를 끌어다 쓰지 못하도록)
+     * - 등록에 실패하면 꺼낸 발급 기록을 되돌려 다시 시도할 수 있게 함
+     */
+    public void attachUploadedImages(Long postId, Long memberId, List<String> imageUrls, List<Integer> orderIndexes) {
+        postImageService.validateOrderIndexes(imageUrls, orderIndexes);
+
+        List<String> claimedUrls = new ArrayList<>(imageUrls.size());
+        try {
+            for (String imageUrl : imageUrls) {
+                if (!presignedUploadRepository.claim(memberId, imageUrl)) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST, "*발급받지 않았거나 이미 등록된 이미지입니다.");
+                }
+                claimedUrls.add(imageUrl);
+                if (!fileStorageService.isStoredPostImage(imageUrl)) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST, "*업로드가 완료되지 않은 이미지입니다.");
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = findPostByIdAndValidateOwner(postId, memberId);
+                postImageService.saveNewImages(post, post.getMember(), imageUrls, orderIndexes);
+                eventPublisher.publishEvent(new PostChangedEvent(postId));
+            });
+        } catch (RuntimeException e) {
+            presignedUploadRepository.release(memberId, claimedUrls);
+            throw e;
+        }
     }
 
     /**
      * 게시글 생성 및 이미지 저장
+     * - 파일은 트랜잭션 밖에서 먼저 저장하고, DB 저장 실패 시 저장한 파일 삭제
      */
-    @Transactional
     public PostCreateResponseDto createPost(Long memberId, PostCreateRequestDto requestDto,
                                             List<MultipartFile> images, List<Integer> orderIndexes) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        postImageService.validateOrderIndexes(images, orderIndexes);
 
-        Post post = postRepository.save(requestDto.toEntity(member));
+        List<String> imageUrls = fileStorageService.storePostImages(images);
+        return executeOrDeleteFiles(imageUrls, () -> {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        List<PostImage> postImages = List.of();
-        if (images != null && !images.isEmpty()) {
-            postImages = buildPostImages(images, orderIndexes, post, member);
-            postImageRepository.saveAll(postImages);
-        }
+            Post post = postRepository.save(requestDto.toEntity(member));
+            List<PostImage> postImages = postImageService.saveNewImages(post, member, imageUrls, orderIndexes);
 
-        return PostCreateResponseDto.from(post, postImages);
+            eventPublisher.publishEvent(new PostCreatedEvent(PostListResponseDto.from(post)));
+            return PostCreateResponseDto.from(post, postImages);
+        });
     }
 
     /**
      * 게시글 수정 및 이미지 변경 처리
+     * - 새 이미지 파일은 트랜잭션 밖에서 먼저 저장하고, DB 반영 실패 시 저장한 파일 삭제
      */
-    @Transactional
     public PostDetailResponseDto updatePost(Long postId, Long memberId, PostUpdateWithImageRequestDto updateDto) {
-        Post post = findPostByIdAndValidateOwner(postId, memberId);
-        PostUpdateRequestDto data = updateDto.getPostData();
+        postImageService.validateOrderIndexes(updateDto.getNewImages(), updateDto.getOrderIndexes());
+        postImageService.findPostByIdAndValidateOwner(postId, memberId); // 권한 없는 요청은 파일 저장 전에 거절
 
-        postImageService.deleteImages(post, data.getKeepImageIds());
-        if (data.hasOrderIndexUpdate()) {
-            postImageService.updateOrderIndexes(post, data.getOrderIndexMap());
-        }
+        List<String> newImageUrls = fileStorageService.storePostImages(updateDto.getNewImages());
+        return executeOrDeleteFiles(newImageUrls, () -> {
+            Post post = findPostByIdAndValidateOwner(postId, memberId);
+            PostUpdateRequestDto data = updateDto.getPostData();
 
-        if (updateDto.getNewImages() != null && !updateDto.getNewImages().isEmpty()) {
-            List<PostImage> newPostImages = postImageService.saveNewImages(post, post.getMember(), updateDto.getNewImages(), updateDto.getOrderIndexes());
-            // 저장은 서비스 내부에서 진행됨
-        }
+            postImageService.deleteImages(post, data.getKeepImageIds());
+            if (data.hasOrderIndexUpdate()) {
+                postImageService.updateOrderIndexes(post, data.getOrderIndexMap());
+            }
+            postImageService.saveNewImages(post, post.getMember(), newImageUrls, updateDto.getOrderIndexes());
 
-        post.update(data.getTitle(), data.getContent());
+            post.update(data.getTitle(), data.getContent());
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
 
-        return PostDetailResponseDto.from(
-                post,
-                postLikeRepository.countByPostId(postId),
-                postImageRepository.findAllByPostId(postId),
-                List.of()
-        );
+            return PostDetailResponseDto.from(
+                    post,
+                    currentViewCount(post),
+                    post.getLikeCount(),
+                    postImageRepository.findAllByPostId(postId),
+                    List.of()
+            );
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 DB 작업 실행, 실패 시 미리 저장해 둔 파일 삭제 (보상 처리)
+     * - 내용 주소 모드에서는 다른 게시글과 공유 중일 수 있으므로 참조 확인 후 삭제 (ImageGarbageCollector)
+     */
+    private <T> T executeOrDeleteFiles(List<String> storedUrls, Supplier<T> action) {
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (RuntimeException e) {
+            eventPublisher.publishEvent(new ImagesReleasedEvent(storedUrls));
+            throw e;
+        }
     }
 
     /**
      * 게시글 상세 조회 (조회수 증가 포함)
+     * - 조회수는 ViewCountBuffer 에 누적 후 스케줄러가 일괄 반영하므로 DB 쓰기 없음
+     * - 본문/댓글/이미지는 PostDetailCache 에서, 카운터는 매 요청마다 단일 행 조회로 최신 값 반영
+     * - 바깥 트랜잭션을 두지 않음: 캐시 미스 로딩이 요청 시작 시점의 스냅샷을 읽으면
+     *   그 사이 커밋된 수정이 무효화된 뒤에도 이전 내용이 캐시에 남을 수 있음
      */
-    @Transactional
     public PostDetailResponseDto getPostDetail(Long postId) {
+        PostDetailResponseDto detail = postDetailCache.get(postId,
+                () -> transactionTemplate.execute(status -> loadPostDetail(postId)));
+
+        PostCountDto counts = postRepository.findCountsById(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        viewCountBuffer.increase(postId);
+
+        return detail.withCounts(
+                (int) (counts.getViewCount() + viewCountBuffer.getPendingCount(postId)),
+                counts.getLikeCount(),
+                counts.getCommentCount());
+    }
+
+    /**
+     * 캐시 미스 시 게시글 상세 응답 구성 (게시글 + 작성자, 댓글, 이미지)
+     */
+    private PostDetailResponseDto loadPostDetail(Long postId) {
         Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        post.increaseViewCount();
 
-        List<CommentResponseDto> comments = postCommentService.getCommentsByPostId(postId);
+        List<CommentResponseDto> comments = postCommentService.getCommentHierarchy(postId);
         List<PostImage> images = postImageRepository.findAllByPostId(postId);
-        int likeCount = postLikeRepository.countByPostId(postId);
 
-        return PostDetailResponseDto.from(post, likeCount, images, comments);
+        return PostDetailResponseDto.from(post, post.getViewCount(), post.getLikeCount(), images, comments);
+    }
+
+    /**
+     * 버퍼에 누적된 조회수를 게시글별로 일괄 반영
+     */
+    @Transactional
+    public void applyViewCounts(Map<Long, Long> viewCounts) {
+        viewCounts.forEach(postRepository::increaseViewCount);
     }
 
     /**
      * 게시글 삭제 (댓글, 이미지, 좋아요도 함께 soft delete)
+     * - 커밋 후 참조가 없어진 이미지 파일 삭제 (ImageGarbageCollector)
      */
     @Transactional
     public void deletePost(Long postId, Long memberId) {
         Post post = findPostByIdAndValidateOwner(postId, memberId);
 
+        List<PostImage> images = postImageRepository.findAllByPostId(postId);
         softDeleteAll(postCommentRepository.findAllByPostId(postId));
-        softDeleteAll(postImageRepository.findAllByPostId(postId));
+        softDeleteAll(images);
         softDeleteAll(postLikeRepository.findAllByPostId(postId));
 
         post.softDelete();
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostDeletedEvent(postId));
+        eventPublisher.publishEvent(new ImagesReleasedEvent(images.stream().map(PostImage::getImageUrl).toList()));
     }
 
     /**
      * 전체 게시글 조회 (커서 기반 페이지네이션)
+     * - 커서 없는 첫 구간은 PostFeedCache 스냅샷에서 DB 조회 없이 반환 (트랜잭션도 열지 않음)
+     * - 좋아요 개수는 post.like_count 컬럼을 그대로 사용 (게시글마다 COUNT 쿼리 실행 방지)
      */
-    @Transactional(readOnly = true)
-    public List<PostListResponseDto> getAllPosts(LocalDateTime cursor, Pageable pageable) {
-        return postRepository.findByCursor(cursor, pageable).stream()
-                .map(post -> PostListResponseDto.from(post, postLikeRepository.countByPostId(post.getId())))
+    public List<PostListResponseDto> getAllPosts(String cursor, Pageable pageable) {
+        KeysetCursor keysetCursor = KeysetCursor.decodeAllowingLegacy(cursor);
+        if (keysetCursor == null && postFeedCache.covers(pageable.getPageSize())) {
+            return postFeedCache.getHead(pageable.getPageSize(), this::loadFeedHead);
+        }
+        return findPosts(keysetCursor, pageable);
+    }
+
+    /**
+     * 게시글 목록 첫 구간 스냅샷 재적재
+     */
+    public void refreshFeedHead() {
+        postFeedCache.refresh(this::loadFeedHead);
+    }
+
+    private List<PostListResponseDto> loadFeedHead() {
+        return findPosts(null, PageRequest.of(0, postFeedCache.getCapacity()));
+    }
+
+    private List<PostListResponseDto> findPosts(KeysetCursor cursor, Pageable pageable) {
+        List<PostSummaryDto> posts = cursor == null
+                ? postRepository.findFirstPage(pageable)
+                : postRepository.findNextPage(cursor.getCreatedAt(), cursor.getId(), pageable);
+
+        return posts.stream()
+                .map(PostListResponseDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * DB 조회수 + 아직 반영되지 않은 버퍼 조회수
+     */
+    private int currentViewCount(Post post) {
+        return (int) (post.getViewCount() + viewCountBuffer.getPendingCount(post.getId()));
+    }
+
     /**
      * 게시글 ID와 회원 ID로 게시글 조회 및 작성자 검증
      */
@@ -154,31 +286,6 @@ public class PostService {
         return post;
     }
 
-    /**
-     * 게시글 이미지 목록 생성 (파일 저장 포함)
-     */
-    private List<PostImage> buildPostImages(List<MultipartFile> images, List<Integer> orderIndexes,
-                                            Post post, Member member) {
-        if (images == null || images.isEmpty()) return List.of();
-
-        if (orderIndexes == null || orderIndexes.size() != images.size()) {
-            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
-        }
-
-        return IntStream.range(0, images.size())
-                .mapToObj(i -> {
-                    String imageUrl = fileStorageService.storeFile(images.get(i), "posts");
-                    return PostImage.builder()
-                            .post(post)
-                            .member(member)
-                            .imageUrl(imageUrl)
-                            .orderIndex(orderIndexes.get(i))
-                            .isDeleted(false)
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-
     /**
      * 댓글, 이미지, 좋아요 등 다양한 엔티티 일괄 soft delete
      */
@@ -0,0 +1,96 @@
+package ktb.community.be.domain.post.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * - 상세 조회마다 UPDATE 를 실행하지 않고 메모리(LongAdder)에 누적한 뒤 스케줄러가 주기적으로 일괄 반영
+ * - 증가는 락 없이 카운터 조회 후 LongAdder 에 더함 (인기 게시글의 조회가 한 버킷 락에 몰리지 않음)
+ * - 수집은 LongAdder.sumThenReset 으로 가져가므로 수집 중의 증가는 이번 또는 다음 주기에 반영
+ * - 조회가 없던 카운터를 맵에서 뺀 뒤 늦게 더해진 값은 수집 측과 증가 측 중 한쪽이 다시 옮겨 담아 유실되지 않음
+ * - 서버 비정상 종료 시 최대 한 번의 반영 주기만큼의 조회수가 유실될 수 있음
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    // 수집 후 DB 반영이 끝나기 전까지의 변화량 (조회 응답에 계속 포함)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (DB 접근 없음)
+     */
+    public void increase(Long postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPendingCount(Long postId) {
+        LongAdder counter = counters.get(postId);
+        return (counter == null ? 0 : counter.sum()) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 반영 대기 중인 조회수 변화량을 수집하고 버퍼에서 비움
+     * - DB 반영 후 markFlushed, 실패 시 restore 를 호출해야 함
+     * - 한 주기 동안 조회가 없던 게시글의 카운터는 맵에서 제거
+     */
+    public Map<Long, Long> collectPending() {
+        Map<Long, Long> pending = new HashMap<>();
+        counters.forEach((postId, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta != 0) {
+                inFlight.merge(postId, delta, Long::sum);
+                pending.merge(postId, delta, Long::sum);
+            } else if (counters.remove(postId, counter)) {
+                // 0 을 확인한 뒤 제거 전까지 더해진 값은 새 카운터로 옮김
+                long late = counter.sumThenReset();
+                if (late != 0) add(postId, late);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * DB 반영이 완료된 변화량을 대기량에서 제거
+     */
+    public void markFlushed(Map<Long, Long> flushed) {
+        flushed.forEach(this::releaseInFlight);
+    }
+
+    /**
+     * DB 반영에 실패한 변화량을 버퍼에 되돌려 다음 주기에 재시도
+     */
+    public void restore(Map<Long, Long> failed) {
+        failed.forEach((postId, delta) -> {
+            releaseInFlight(postId, delta);
+            add(postId, delta);
+        });
+    }
+
+    private void add(Long postId, long delta) {
+        LongAdder counter = counters.get(postId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        counter.add(delta);
+
+        // 더하는 사이 수집 측이 카운터를 제거했다면 남은 값을 새 카운터로 옮김
+        if (counters.get(postId) != counter) {
+            long orphaned = counter.sumThenReset();
+            if (orphaned != 0) add(postId, orphaned);
+        }
+    }
+
+    private void releaseInFlight(Long postId, long delta) {
+        inFlight.computeIfPresent(postId, (id, remaining) -> remaining - delta <= 0 ? null : remaining - delta);
+    }
+}
@@ -1,6 +1,8 @@
 package ktb.community.be.domain.post.dao;
 
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.domain.post.dto.PostCountDto;
+import ktb.community.be.domain.post.dto.PostSummaryDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +18,10 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    String SUMMARY_SELECT = "SELECT new ktb.community.be.domain.post.dto.PostSummaryDto(" +
+            "p.id, p.title, m.nickname, m.isDeleted, p.likeCount, p.commentCount, p.viewCount, p.createdAt) " +
+            "FROM Post p LEFT JOIN p.member m ";
+
     /**
      * 게시글 상세 조회
      */
@@ -25,19 +31,108 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findByIdAndDeletedAtIsNull(@Param("id") Long id);
 
     /**
-     * 게시글 상세 조회 시 조회 수 증가
+     * 버퍼에 누적된 조회 수 반영
+     * - 사용 위치: 스케줄러 기반 조회수 반영 로직 (PostService.applyViewCounts())
      */
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :postId")
-    void incrementViewCount(@Param("postId") Long postId);
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :count WHERE p.id = :postId")
+    void increaseViewCount(@Param("postId") Long postId, @Param("count") long count);
 
     /**
-     * 커서 기반 게시글 목록 조회 (최신순)
+     * 좋아요 추가 시 좋아요 수 증가
      */
-    @EntityGraph(attributePaths = {"member"})
-    @Query("SELECT p FROM Post p " +
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    void increaseLikeCount(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 취소 시 좋아요 수 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    void decreaseLikeCount(@Param("postId") Long postId);
+
+    /**
+     * 댓글/대댓글 작성 시 댓글 수 증가
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 댓글 삭제 시 댓글 수 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    void decreaseCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 게시글 상세 조회 시 카운터 값 조회 (캐시된 상세 응답에 최신 값을 반영하기 위함)
+     */
+    @Query("SELECT p.viewCount AS viewCount, p.likeCount AS likeCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostCountDto> findCountsById(@Param("postId") Long postId);
+
+    /**
+     * 좋아요 개수 조회
+     */
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    /**
+     * 보정 배치 범위 계산용 최대 게시글 ID
+     */
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    long findMaxId();
+
+    /**
+     * post_like 기준으로 어긋난 좋아요 수 보정 (ID 구간 단위)
+     * - 사용 위치: 스케줄러 기반 좋아요 수 보정 로직 (PostLikeService.reconcileLikeCounts())
+     * - 구간 안의 게시글/좋아요 행만 잠그도록 post_id 범위로 집계를 제한
+     * - UPDATE 안의 집계는 잠금 읽기라 최신 값 기준이며, 여전히 어긋난 행만 갱신
+     */
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_like " +
+            "WHERE is_deleted = 0 AND post_id BETWEEN :fromId AND :toId GROUP BY post_id) pl " +
+            "ON pl.post_id = p.id " +
+            "SET p.like_count = COALESCE(pl.cnt, 0) " +
+            "WHERE p.id BETWEEN :fromId AND :toId " +
+            "AND (p.like_count IS NULL OR p.like_count <> COALESCE(pl.cnt, 0))", nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * post_comment 기준으로 어긋난 댓글 수 보정 (ID 구간 단위)
+     * - 사용 위치: 스케줄러 기반 댓글 수 보정 로직 (PostCommentService.reconcileCommentCounts())
+     * - 좋아요 수 보정과 같은 방식으로 구간 안의 행만 잠그고, 여전히 어긋난 행만 갱신
+     */
+    @Modifying
+    @Query(value = "UPDATE post p " +
+            "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_comment " +
+            "WHERE deleted_at IS NULL AND post_id BETWEEN :fromId AND :toId GROUP BY post_id) pc " +
+            "ON pc.post_id = p.id " +
+            "SET p.comment_count = COALESCE(pc.cnt, 0) " +
+            "WHERE p.id BETWEEN :fromId AND :toId " +
+            "AND (p.comment_count IS NULL OR p.comment_count <> COALESCE(pc.cnt, 0))", nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 게시글 목록 첫 페이지 조회 (최신순)
+     * - idx_post_feed (deleted_at, created_at, id) 역순 스캔으로 filesort 없이 조회
+     * - 엔티티 대신 목록에 필요한 컬럼만 프로젝션으로 조회 (content, 연관관계 로딩 없음)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.deletedAt IS NULL " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findFirstPage(Pageable pageable);
+
+    /**
+     * 커서 기반 게시글 목록 다음 페이지 조회 (최신순)
+     * - (createdAt, id) 복합 커서로 같은 시각에 작성된 게시글도 누락/중복 없이 조회
+     */
+    @Query(SUMMARY_SELECT +
             "WHERE p.deletedAt IS NULL " +
-            "AND (:cursor IS NULL OR p.createdAt < :cursor) " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByCursor(@Param("cursor") LocalDateTime cursor, Pageable pageable);
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findNextPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
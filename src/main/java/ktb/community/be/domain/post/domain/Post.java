@@ -8,7 +8,7 @@ import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.domain.BaseTimeEntity;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -19,9 +19,12 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_feed", columnList = "deleted_at, created_at, id")
+})
 @SQLDelete(sql = "UPDATE post SET deleted_at = NOW(), is_deleted = 1 WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
+@DynamicUpdate // 카운터 컬럼은 원자적 UPDATE 로만 갱신되므로 변경된 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -46,8 +49,8 @@ public class Post extends BaseTimeEntity {
     @Column(columnDefinition = "INT UNSIGNED DEFAULT 0")
     private Integer viewCount = 0;
 
-    @Formula("(SELECT COUNT(pl.id) FROM post_like pl WHERE pl.post_id = id AND pl.is_deleted = 0)")
-    private int likeCount;
+    @Column(columnDefinition = "INT UNSIGNED DEFAULT 0")
+    private Integer likeCount = 0;
 
     @Column(columnDefinition = "INT UNSIGNED DEFAULT 0")
     private Integer commentCount = 0;
@@ -71,22 +74,11 @@ public class Post extends BaseTimeEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<PostLike> likes = new HashSet<>();
 
-    public void increaseViewCount() {
-        if (this.viewCount == null) {
-            this.viewCount = 0;
-        }
-        this.viewCount++;
-    }
-
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
     }
 
-    public void updateCommentCount(int count) {
-        this.commentCount = count;
-    }
-
     public void softDelete() {
         this.isDeleted = true;
         this.deletedAt = LocalDateTime.now();
@@ -0,0 +1,13 @@
+package ktb.community.be.domain.post.dto;
+
+/**
+ * 게시글 카운터 컬럼 프로젝션 (조회수, 좋아요 수, 댓글 수)
+ */
+public interface PostCountDto {
+
+    Integer getViewCount();
+
+    Integer getLikeCount();
+
+    Integer getCommentCount();
+}
@@ -30,6 +30,7 @@ public class PostCreateRequestDto {
                 .title(title)
                 .content(content)
                 .viewCount(0)  // 기본값 명시적으로 설정
+                .likeCount(0)
                 .commentCount(0)
                 .isDeleted(false)
                 .build();
@@ -7,6 +7,7 @@ import ktb.community.be.domain.post.domain.Post;
 import ktb.community.be.domain.image.domain.PostImage;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -14,7 +15,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 @JsonPropertyOrder({
         "id", "title", "content", "images",
         "createdAt", "updatedAt", "viewCount", "likeCount", "commentCount",
@@ -37,13 +39,13 @@ public class PostDetailResponseDto {
 
     private List<CommentResponseDto> comments;
 
-    public static PostDetailResponseDto from(Post post, int likeCount, List<PostImage> images, List<CommentResponseDto> comments) {
+    public static PostDetailResponseDto from(Post post, int viewCount, int likeCount, List<PostImage> images, List<CommentResponseDto> comments) {
         String nickname = "(알수없음)";
         String profileImageUrl = null;
 
         if (post.getMember() != null && !post.getMember().getIsDeleted()) {
             nickname = post.getMember().getNickname();
-            profileImageUrl = post.getMember().getProfileImageUrl();
+            profileImageUrl = post.getMember().getAvatarUrl();
         }
 
         return PostDetailResponseDto.builder()
@@ -52,7 +54,7 @@ public class PostDetailResponseDto {
                 .content(post.getContent())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
-                .viewCount(post.getViewCount())
+                .viewCount(viewCount)
                 .likeCount(likeCount)
                 .commentCount(post.getCommentCount())
                 .memberNickname(nickname)
@@ -64,4 +66,15 @@ public class PostDetailResponseDto {
                 .comments(comments)
                 .build();
     }
+
+    /**
+     * 캐시된 응답에 조회 시점의 카운터 값을 반영한 사본 생성
+     */
+    public PostDetailResponseDto withCounts(int viewCount, int likeCount, int commentCount) {
+        return toBuilder()
+                .viewCount(viewCount)
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .build();
+    }
 }
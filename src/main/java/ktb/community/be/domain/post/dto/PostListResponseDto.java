@@ -1,6 +1,7 @@
 package ktb.community.be.domain.post.dto;
 
 import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.global.util.KeysetCursor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -17,8 +18,24 @@ public class PostListResponseDto {
     private final int commentCount;
     private final int viewCount;
     private final LocalDateTime createdAt;
+    private final String cursor; // 다음 페이지 요청 시 마지막 게시글의 cursor 를 그대로 전달
 
-    public static PostListResponseDto from(Post post, int likeCount) {
+    public static PostListResponseDto from(PostSummaryDto summary) {
+        boolean hasActiveMember = summary.getMemberDeleted() != null && !summary.getMemberDeleted();
+
+        return PostListResponseDto.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .memberNickname(hasActiveMember ? summary.getMemberNickname() : "(알수없음)")
+                .likeCount(summary.getLikeCount())
+                .commentCount(summary.getCommentCount())
+                .viewCount(summary.getViewCount())
+                .createdAt(summary.getCreatedAt())
+                .cursor(KeysetCursor.encode(summary.getCreatedAt(), summary.getId()))
+                .build();
+    }
+
+    public static PostListResponseDto from(Post post) {
         String nickname = "(알수없음)";
         if (post.getMember() != null && !post.getMember().getIsDeleted()) {
             nickname = post.getMember().getNickname();
@@ -28,10 +45,11 @@ public class PostListResponseDto {
                 .id(post.getId())
                 .title(post.getTitle())
                 .memberNickname(nickname)
-                .likeCount(likeCount)
+                .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
                 .viewCount(post.getViewCount())
                 .createdAt(post.getCreatedAt())
+                .cursor(KeysetCursor.encode(post.getCreatedAt(), post.getId()))
                 .build();
     }
 }
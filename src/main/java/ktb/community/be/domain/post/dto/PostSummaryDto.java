@@ -0,0 +1,24 @@
+package ktb.community.be.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션 (JPQL 생성자 표현식)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 목록에 필요한 컬럼만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+
+    private final Long id;
+    private final String title;
+    private final String memberNickname;
+    private final Boolean memberDeleted; // 작성자가 없으면 null
+    private final Integer likeCount;
+    private final Integer commentCount;
+    private final Integer viewCount;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package ktb.community.be.domain.post.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 상세 응답에 포함되는 데이터(게시글, 댓글, 이미지)가 변경되었음을 알리는 이벤트
+ * - 사용 위치: 게시글 상세 캐시 무효화 (PostDetailCache)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+}
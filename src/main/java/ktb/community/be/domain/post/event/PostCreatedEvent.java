@@ -0,0 +1,16 @@
+package ktb.community.be.domain.post.event;
+
+import ktb.community.be.domain.post.dto.PostListResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 작성 이벤트
+ * - 사용 위치: 게시글 목록 첫 페이지 스냅샷 갱신 (PostFeedCache)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCreatedEvent {
+
+    private final PostListResponseDto post;
+}
@@ -0,0 +1,12 @@
+package ktb.community.be.domain.post.event;
+
+/**
+ * 게시글 삭제 이벤트
+ * - PostChangedEvent 를 상속하므로 상세 캐시 무효화 대상에도 포함됨
+ */
+public class PostDeletedEvent extends PostChangedEvent {
+
+    public PostDeletedEvent(Long postId) {
+        super(postId);
+    }
+}
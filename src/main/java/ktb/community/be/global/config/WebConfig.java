@@ -1,13 +1,28 @@
 package ktb.community.be.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${file.storage.base-dir:${user.dir}/uploads}")
+    private String uploadDir;
+
+    @Value("${file.storage.cache-max-age-days:365}")
+    private long cacheMaxAgeDays;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -17,9 +32,28 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true);
     }
 
+    /**
+     * 업로드 이미지 정적 서빙
+     * - 파일명이 고유하고 저장 후 내용이 바뀌지 않으므로 Cache-Control: public, max-age, immutable
+     * - ETag 는 파일명(확장자 제외) 기반이라 매 요청마다 파일을 읽어 해시하지 않음 (If-None-Match → 304)
+     * - .br / .gz 사전 압축본이 있으면 Accept-Encoding 에 맞춰 대신 서빙
+     * - Range 요청(206)은 ResourceHttpRequestHandler 가 기본 지원
+     */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String location = "file:" + Paths.get(uploadDir).toAbsolutePath().normalize() + "/";
+
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:/Users/sieun/KakaoTechBootcamp/6,7th-week/be/uploads/");
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.maxAge(cacheMaxAgeDays, TimeUnit.DAYS).cachePublic().immutable())
+                .setEtagGenerator(WebConfig::uploadEtag)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+    }
+
+    private static String uploadEtag(Resource resource) {
+        String fileName = resource.getFilename();
+        return fileName == null ? null : StringUtils.stripFilenameExtension(fileName);
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @RestControllerAdvice
@@ -41,6 +42,20 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(HttpStatus.BAD_REQUEST, errorMessage));
     }
 
+    /**
+     * 요청 파라미터 검증 실패 예외 처리 (@RequestParam 의 @Min/@Max 등)
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ApiResponse<String>> handleMethodValidationException(HandlerMethodValidationException ex) {
+        String errorMessage = ex.getAllErrors().isEmpty()
+                ? ErrorCode.INVALID_REQUEST.getMessage()
+                : ex.getAllErrors().get(0).getDefaultMessage(); // 첫 번째 에러 메시지만 반환
+        log.warn("❗ 요청 파라미터 검증 실패: {}", errorMessage);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(HttpStatus.BAD_REQUEST, errorMessage));
+    }
+
     /**
      * 인증 예외 처리 (로그인 필요할 때)
      */
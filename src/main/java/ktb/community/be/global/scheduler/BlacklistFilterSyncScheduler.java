@@ -0,0 +1,24 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.global.security.TokenBlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlacklistFilterSyncScheduler {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.local-filter.sync-interval-ms:60000}") // pub/sub 유실 시 최대 전파 지연
+    public void syncLocalFilter() {
+        try {
+            tokenBlacklistService.rebuildLocalFilter();
+        } catch (Exception e) {
+            log.error("* 블랙리스트 로컬 필터 동기화 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
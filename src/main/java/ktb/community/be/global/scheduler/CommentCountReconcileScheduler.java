@@ -0,0 +1,24 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.comment.application.PostCommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+
+    private final PostCommentService postCommentService;
+
+    @Scheduled(initialDelay = 90_000, fixedDelay = 600_000) // 기동 1분 30초 후, 이후 10분 간격 실행
+    public void reconcileCommentCounts() {
+        try {
+            postCommentService.reconcileCommentCounts();
+        } catch (Exception e) {
+            log.error("* 댓글 수 보정 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.comment.application.PostCommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentRootBackfillRunner {
+
+    private final PostCommentService postCommentService;
+
+    @EventListener(ApplicationReadyEvent.class) // 기동 시 1회 실행
+    public void backfillRootCommentIds() {
+        try {
+            postCommentService.backfillRootCommentIds();
+        } catch (Exception e) {
+            log.error("* 대댓글 root_comment_id 보정 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.like.application.PostLikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconcileScheduler {
+
+    private final PostLikeService postLikeService;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 600_000) // 기동 1분 후, 이후 10분 간격 실행
+    public void reconcileLikeCounts() {
+        try {
+            postLikeService.reconcileLikeCounts();
+        } catch (Exception e) {
+            log.error("* 좋아요 수 보정 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ktb.community.be.global.scheduler;
 
 import ktb.community.be.domain.member.application.MemberService;
+import ktb.community.be.domain.member.application.MemberUniquenessFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 public class MemberCleanupScheduler {
 
     private final MemberService memberService;
+    private final MemberUniquenessFilter memberUniquenessFilter;
 
     @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시 실행
     public void cleanupDeletedMembers() {
@@ -19,6 +21,9 @@ public class MemberCleanupScheduler {
         try {
             memberService.processExpiredDeletedAccounts();
             log.info("* 30일 지난 탈퇴 회원 처리 완료");
+
+            // 변경 전 이메일/닉네임이 남지 않도록 중복 검사 필터 재구성
+            memberUniquenessFilter.rebuild();
         } catch (Exception e) {
             log.error("* 30일 지난 탈퇴 회원 처리 중 예외 발생: {}", e.getMessage(), e);
         }
@@ -0,0 +1,24 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.post.application.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedRefreshScheduler {
+
+    private final PostService postService;
+
+    @Scheduled(fixedDelayString = "${post.feed-cache.refresh-interval-ms:10000}") // 기본 10초 간격 실행
+    public void refreshFeedHead() {
+        try {
+            postService.refreshFeedHead();
+        } catch (Exception e) {
+            log.error("* 게시글 목록 스냅샷 갱신 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ktb.community.be.global.scheduler;
+
+import ktb.community.be.domain.image.application.ImageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleasedImageSweepScheduler {
+
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    @Scheduled(initialDelay = 180_000, fixedDelay = 600_000) // 기동 3분 후, 이후 10분 간격 실행
+    public void sweepReleasedImages() {
+        try {
+            imageGarbageCollector.sweepReleasedImages();
+        } catch (Exception e) {
+            log.error("* 삭제 보류 이미지 정리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+}
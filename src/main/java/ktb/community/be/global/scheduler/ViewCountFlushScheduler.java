@@ -0,0 +1,41 @@
+package ktb.community.be.global.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.domain.post.application.PostService;
+import ktb.community.be.domain.post.application.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostService postService;
+
+    // 종료 시 반영(@PreDestroy)과 주기 반영이 겹쳐 같은 변화량을 두 번 반영하지 않도록 직렬화
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}") // 기본 5초 간격 실행
+    public synchronized void flushViewCounts() {
+        Map<Long, Long> pending = viewCountBuffer.collectPending();
+        if (pending.isEmpty()) return;
+
+        try {
+            postService.applyViewCounts(pending);
+            viewCountBuffer.markFlushed(pending);
+        } catch (Exception e) {
+            viewCountBuffer.restore(pending);
+            log.error("* 조회수 반영 중 예외 발생 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    // 정상 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
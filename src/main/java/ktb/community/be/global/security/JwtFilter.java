@@ -1,5 +1,6 @@
 package ktb.community.be.global.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,16 +32,14 @@ public class JwtFilter extends OncePerRequestFilter {
         // 1. Request Header 에서 토큰을 꺼냄
         String jwt = resolveToken(request);
 
-        // 블랙리스트 검사
-        if (StringUtils.hasText(jwt) && tokenBlacklistService.isBlacklisted(jwt)) {
-            filterChain.doFilter(request, response); // 인증 없이 넘김
-            return;
-        }
+        // 2. 토큰을 한 번만 파싱/검증
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseVerifiedClaims(jwt) : null;
 
-        // 2. validateToken 으로 토큰 유효성 검사
-        // 정상 토큰이면 해당 토큰으로 Authentication 을 가져와서 SecurityContext 에 저장
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        // 3. 블랙리스트 검사 (서명 검증을 통과한 토큰만, jti 와 exp 에 해당하는 구간 필터로 조회)
+        // 정상 토큰이면 검증된 클레임으로 Authentication 을 만들어서 SecurityContext 에 저장
+        if (claims != null
+                && !tokenBlacklistService.isBlacklisted(tokenProvider.getTokenId(claims, jwt), claims.getExpiration())) {
+            Authentication authentication = tokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
@@ -0,0 +1,47 @@
+package ktb.community.be.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.event.MemberStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 인증 시 회원 활성 여부 확인용 로컬 캐시
+ * - 토큰 클레임을 신뢰하고, 탈퇴 여부만 TTL 동안 캐시하여 요청마다 회원 조회를 하지 않음
+ * - 같은 서버의 탈퇴/복구는 커밋 이후 즉시 무효화, 다른 서버에는 TTL 이내에 반영
+ */
+@Component
+public class MemberStatusCache {
+
+    private final Cache<Long, Boolean> cache;
+    private final MemberRepository memberRepository;
+
+    public MemberStatusCache(MemberRepository memberRepository,
+                             @Value("${security.member-status-cache.max-size:10000}") long maxSize,
+                             @Value("${security.member-status-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 존재하고 탈퇴하지 않은 회원인지 확인 (캐시 미스일 때만 DB 조회)
+     */
+    public boolean isActive(Long memberId) {
+        return cache.get(memberId, id -> memberRepository.findById(id)
+                .map(member -> !member.getIsDeleted())
+                .orElse(false));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        cache.invalidate(event.getMemberId());
+    }
+}
@@ -0,0 +1,95 @@
+package ktb.community.be.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호(BCrypt) 검증 전용 스레드 풀
+ * - 동시에 실행되는 해시 연산 수를 풀 크기로 제한하여 로그인 폭주 시에도 다른 API 의 CPU 를 잠식하지 않음
+ * - 대기열이 가득 차면 즉시 429, 대기 시간이 초과되면 503 으로 거절
+ * - 대기열 길이/실행 중 작업 수/거절 횟수는 Micrometer 지표로 노출 (auth.password.*)
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Counter rejectedCounter;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+                            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                            @Value("${security.password-hashing.timeout-ms:3000}") long timeoutMillis) {
+        // 기본값은 코어의 절반 (로그인 폭주 시에도 나머지 코어는 다른 요청 처리에 남겨둠)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        Gauge.builder("auth.password.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 검증 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("풀 포화로 거절된 비밀번호 검증 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인 (전용 풀에서 실행, 호출 스레드는 결과만 대기)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE, "로그인 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            log.error("[비밀번호 검증] 실패: {}", e.getCause().getMessage(), e.getCause());
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,7 +1,5 @@
 package ktb.community.be.global.security;
 
-import ktb.community.be.domain.member.dao.MemberRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,11 +7,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class SecurityUtil {
 
-    private final MemberRepository memberRepository;
-
     // SecurityContext 에 유저 정보가 저장되는 시점
     // Request 가 들어올 때 JwtFilter 의 doFilter 에서 저장
     public Long getCurrentMemberId() {
@@ -29,12 +24,8 @@ public class SecurityUtil {
             Object principal = authentication.getPrincipal();
 
             if (principal instanceof UserDetails userDetails) {
-
-                Long memberId = Long.valueOf(userDetails.getUsername());
-
-                return memberRepository.findById(memberId)
-                        .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("존재하지 않는 사용자입니다."))
-                        .getId();
+                // 회원 존재/탈퇴 여부는 인증 시점에 이미 확인됨 (TokenProvider.getAuthentication)
+                return Long.valueOf(userDetails.getUsername());
             } else {
                 throw new AuthenticationCredentialsNotFoundException("잘못된 인증 정보입니다.");
             }
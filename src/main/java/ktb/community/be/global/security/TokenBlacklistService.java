@@ -1,41 +1,204 @@
 package ktb.community.be.global.security;
 
 import io.rebloom.client.Client;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import ktb.community.be.global.util.BloomFilter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Access Token 블랙리스트 (토큰 문자열 대신 jti 로 관리)
+ * - 토큰 만료 시각 기준 시간 구간(bucket)별로 Bloom Filter 를 분리하여, 만료된 구간은 통째로 제거
+ *   (필터가 계속 커지지 않으므로 메모리와 false positive 비율이 일정하게 유지됨)
+ * - 조회는 로컬 Bloom Filter 로 먼저 걸러서, 블랙리스트에 없는 대부분의 토큰은 네트워크 I/O 없이 통과
+ * - 로컬 필터에 걸린 경우에만 Redis 키로 최종 확인
+ * - 등록은 pub/sub 으로 모든 서버의 로컬 필터에 즉시 전파하고, 메시지 유실 대비 주기적으로 Redis 키 기준 재구성
+ *   (BlacklistFilterSyncScheduler)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
 
-    private final StringRedisTemplate redisTemplate;
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String ADD_CHANNEL = "blacklist:add";
+    private static final String BUCKET_DELIMITER = ":";
+    private static final long CLOCK_SKEW_MILLIS = 60_000;
 
+    private final StringRedisTemplate redisTemplate;
     private final Client bloomClient;
+    private final String bloomFilterName;
+    private final long bucketMillis;
+    private final long localExpectedInsertions;
+    private final double localFalsePositiveRate;
+
+    // 만료 구간 번호 → 해당 구간에 만료되는 블랙리스트 토큰의 로컬 필터
+    private final Map<Long, BloomFilter> localFilters = new ConcurrentHashMap<>();
+    private volatile boolean localFilterReady = false;
+    private volatile Map<Long, BloomFilter> rebuildingFilters; // 재구성 중 들어온 등록도 새 필터에 반영
+
+    public TokenBlacklistService(StringRedisTemplate redisTemplate,
+                                 Client bloomClient,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 @Value("${jwt.bloom-filter.key:accessTokenBlacklist}") String bloomFilterName,
+                                 @Value("${jwt.blacklist.bucket-minutes:30}") long bucketMinutes,
+                                 @Value("${jwt.blacklist.local-filter.expected-insertions:100000}") long localExpectedInsertions,
+                                 @Value("${jwt.blacklist.local-filter.false-positive-rate:0.001}") double localFalsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.bloomClient = bloomClient;
+        this.bloomFilterName = bloomFilterName;
+        this.bucketMillis = Duration.ofMinutes(bucketMinutes).toMillis();
+        this.localExpectedInsertions = localExpectedInsertions;
+        this.localFalsePositiveRate = localFalsePositiveRate;
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> {
+                    String entry = new String(message.getBody(), StandardCharsets.UTF_8);
+                    int delimiterIndex = entry.indexOf(BUCKET_DELIMITER);
+                    addToLocalFilter(Long.parseLong(entry.substring(0, delimiterIndex)), entry.substring(delimiterIndex + 1));
+                },
+                new ChannelTopic(ADD_CHANNEL));
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            rebuildLocalFilter();
+        } catch (Exception e) {
+            // 로컬 필터가 준비되기 전까지는 RedisBloom 으로 조회
+            log.warn("[블랙리스트] 로컬 필터 초기화 실패: {}", e.getMessage());
+        }
+    }
 
-    @Value("${jwt.bloom-filter.key:accessTokenBlacklist}")
-    private String BLOOM_FILTER_NAME;
+    /**
+     * 블랙리스트 등록
+     * - expiration: 토큰의 exp 클레임 (구간 계산 기준이므로 남은 시간이 아닌 만료 시각을 그대로 전달)
+     */
+    public void blacklistAccessToken(String tokenId, Date expiration) {
+        long bucket = bucketOf(expiration);
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0) return;
 
-    public void blacklistAccessToken(String accessToken, long expirationTimeMillis) {
-        // Bloom Filter에 등록
-        bloomClient.add(BLOOM_FILTER_NAME, accessToken);
+        // 구간별 Bloom Filter 에 등록하고, 구간이 끝나면 필터 키가 통째로 만료되도록 설정
+        String bloomKey = bloomKey(bucket);
+        bloomClient.add(bloomKey, tokenId);
+        redisTemplate.expireAt(bloomKey, new Date(bucketEndMillis(bucket) + CLOCK_SKEW_MILLIS));
 
         // TTL 보장용 키 저장
-        String key = "blacklist:" + accessToken;
-        redisTemplate.opsForValue().set(key, "true", expirationTimeMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForValue().set(blacklistKey(bucket, tokenId), "true", remainingMillis, TimeUnit.MILLISECONDS);
 
-        log.info("[블랙리스트 등록 완료] token={}, TTL={}ms", accessToken, expirationTimeMillis);
+        // 로컬 필터에 즉시 반영하고 다른 서버에도 전파
+        addToLocalFilter(bucket, tokenId);
+        redisTemplate.convertAndSend(ADD_CHANNEL, bucket + BUCKET_DELIMITER + tokenId);
+
+        log.info("[블랙리스트 등록 완료] jti={}, TTL={}ms", tokenId, remainingMillis);
     }
 
-    public boolean isBlacklisted(String accessToken) {
-        boolean mightExist = bloomClient.exists(BLOOM_FILTER_NAME, accessToken);
+    /**
+     * 블랙리스트 여부 확인 (서명 검증을 마친 토큰의 exp 로 해당 구간 필터만 조회)
+     */
+    public boolean isBlacklisted(String tokenId, Date expiration) {
+        long bucket = bucketOf(expiration);
+
+        boolean mightExist;
+        if (localFilterReady) {
+            BloomFilter filter = localFilters.get(bucket);
+            mightExist = filter != null && filter.mightContain(tokenId);
+        } else {
+            mightExist = bloomClient.exists(bloomKey(bucket), tokenId);
+        }
         if (!mightExist) return false;
 
-        return Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + accessToken));
+        return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(bucket, tokenId)));
+    }
+
+    /**
+     * Redis 의 블랙리스트 키(TTL 남은 토큰)로 로컬 필터 재구성
+     * - 만료된 토큰은 키가 사라지고, 지난 구간의 필터는 새 필터 목록에 포함되지 않음
+     */
+    public void rebuildLocalFilter() {
+        Map<Long, BloomFilter> rebuilt = new ConcurrentHashMap<>();
+        rebuildingFilters = rebuilt;
+
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String entry = key.substring(KEY_PREFIX.length());
+                int delimiterIndex = entry.indexOf(BUCKET_DELIMITER);
+                if (delimiterIndex < 0) {
+                    migrateLegacyKey(key, entry, rebuilt);
+                    continue;
+                }
+
+                long bucket = Long.parseLong(entry.substring(0, delimiterIndex));
+                rebuilt.computeIfAbsent(bucket, b -> newFilter()).put(entry.substring(delimiterIndex + 1));
+                count++;
+            }
+
+            // 새 필터를 먼저 반영한 뒤 지난 구간 제거 (교체 중 조회에서 누락되지 않도록)
+            localFilters.putAll(rebuilt);
+            localFilters.keySet().retainAll(rebuilt.keySet());
+            localFilterReady = true;
+        } finally {
+            rebuildingFilters = null;
+        }
+
+        log.debug("[블랙리스트] 로컬 필터 재구성 완료: {}건, 구간 {}개", count, rebuilt.size());
+    }
+
+    /**
+     * 구간 정보가 없는 이전 형식 키(blacklist:{token})를 남은 TTL 기준 구간 키로 옮김
+     */
+    private void migrateLegacyKey(String legacyKey, String tokenId, Map<Long, BloomFilter> rebuilt) {
+        Long ttlMillis = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        if (ttlMillis == null || ttlMillis <= 0) return;
+
+        long bucket = bucketOf(new Date(System.currentTimeMillis() + ttlMillis));
+        redisTemplate.opsForValue().set(blacklistKey(bucket, tokenId), "true", ttlMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.delete(legacyKey);
+        rebuilt.computeIfAbsent(bucket, b -> newFilter()).put(tokenId);
+    }
+
+    private void addToLocalFilter(long bucket, String tokenId) {
+        localFilters.computeIfAbsent(bucket, b -> newFilter()).put(tokenId);
+
+        Map<Long, BloomFilter> rebuilding = rebuildingFilters;
+        if (rebuilding != null) rebuilding.computeIfAbsent(bucket, b -> newFilter()).put(tokenId);
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(localExpectedInsertions, localFalsePositiveRate);
+    }
+
+    private long bucketOf(Date expiration) {
+        return expiration.getTime() / bucketMillis;
+    }
+
+    private long bucketEndMillis(long bucket) {
+        return (bucket + 1) * bucketMillis;
+    }
+
+    private String bloomKey(long bucket) {
+        return bloomFilterName + BUCKET_DELIMITER + bucket;
+    }
+
+    private String blacklistKey(long bucket, String tokenId) {
+        return KEY_PREFIX + bucket + BUCKET_DELIMITER + tokenId;
     }
 }
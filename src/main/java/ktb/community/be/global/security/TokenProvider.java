@@ -3,11 +3,8 @@ package ktb.community.be.global.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import ktb.community.be.domain.member.dao.MemberRepository;
-import ktb.community.be.domain.member.domain.Member;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,7 +16,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.stream.Collectors;
@@ -29,31 +28,33 @@ import java.util.stream.Collectors;
 public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String SESSION_ID_KEY = "sid";
     private static final String BEARER_TYPE = "Bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30;            // 30분
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;  // 7일
+    public static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;   // 7일
+
+    private static final int TOKEN_ID_BYTES = 16;                                     // jti 128비트
 
-    @Getter
     private final Key key;
 
-    private final MemberRepository memberRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 불변이며 thread-safe 하므로 한 번만 생성하여 재사용
+    private final JwtParser jwtParser;
 
-    public TokenProvider(@Value("${jwt.secret}") String secretKey, MemberRepository memberRepository) {
+    private final MemberStatusCache memberStatusCache;
+
+    public TokenProvider(@Value("${jwt.secret}") String secretKey, MemberStatusCache memberStatusCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.memberRepository = memberRepository;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.memberStatusCache = memberStatusCache;
     }
 
-    public String getSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public TokenDto generateTokenDto(Authentication authentication, Long memberId) {
+    /**
+     * 토큰 발급 (sessionId: 로그인한 기기별 세션 식별자, 재발급 시에도 유지)
+     */
+    public TokenDto generateTokenDto(Authentication authentication, Long memberId, String sessionId) {
         // 권한들 가져오기
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -64,15 +65,19 @@ public class TokenProvider {
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         String accessToken = Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(memberId.toString())
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(SESSION_ID_KEY, sessionId)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
 
         // Refresh Token 생성
         String refreshToken = Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(memberId.toString())
+                .claim(SESSION_ID_KEY, sessionId)
                 .setExpiration(new Date(now + REFRESH_TOKEN_EXPIRE_TIME))
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
@@ -85,18 +90,40 @@ public class TokenProvider {
                 .build();
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+    /**
+     * 블랙리스트 등에 사용할 토큰 식별자 (jti)
+     * - jti 가 없는 이전 발급 토큰은 토큰 문자열 자체를 식별자로 사용
+     */
+    public String getTokenId(Claims claims, String token) {
+        String tokenId = claims.getId();
+        return tokenId != null ? tokenId : token;
+    }
 
+    public String newSessionId() {
+        return newTokenId();
+    }
+
+    /**
+     * 세션 식별자 (sid 가 없는 이전 발급 토큰은 null)
+     */
+    public String getSessionId(Claims claims) {
+        return claims.get(SESSION_ID_KEY, String.class);
+    }
+
+    /**
+     * 검증된 클레임으로 Authentication 생성 (토큰을 다시 파싱하지 않음)
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
         Long memberId = Long.parseLong(claims.getSubject());
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND, "존재하지 않는 회원입니다."));
+        // 서명된 클레임을 신뢰하고, 탈퇴 여부만 캐시로 확인 (회원 엔티티 조회 없음)
+        if (!memberStatusCache.isActive(memberId)) {
+            throw new CustomException(ErrorCode.MEMBER_NOT_FOUND, "존재하지 않는 회원입니다.");
+        }
 
         // 클레임에서 권한 정보 가져오기
         Collection<? extends GrantedAuthority> authorities =
@@ -110,10 +137,13 @@ public class TokenProvider {
         return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명/만료 검증 후 클레임 반환 (유효하지 않으면 null)
+     * - 요청당 한 번만 파싱/검증하고, 이후 단계에는 반환된 클레임을 전달
+     */
+    public Claims parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -123,12 +153,23 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    // 128비트 난수를 Base64URL 로 인코딩한 22자 식별자
+    private String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private Claims parseClaims(String accessToken) {
+    /**
+     * 서명 검증 후 클레임 반환 (만료된 토큰도 클레임 반환)
+     * - 사용 위치: 토큰 재발급/로그아웃 시 Access Token 해석
+     */
+    public Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -0,0 +1,66 @@
+package ktb.community.be.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 추상화
+ * - key 는 저장소 내 상대 경로 (예: posts/abc.png), DB 에는 publicUrl(key) 를 저장
+ * - 구현체: 로컬 파일시스템 (LocalBlobStore), S3 호환 저장소 (S3BlobStore)
+ * - 사용할 구현체는 file.storage.type (local | s3) 으로 선택
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 key 위치에 저장 (size 바이트)
+     */
+    void put(String key, InputStream in, long size, String contentType) throws IOException;
+
+    /**
+     * 새 key 에만 저장 (이미 있는 key 면 FileAlreadyExistsException, 기존 파일은 그대로 둠)
+     * - UUID/임시 key 처럼 겹치면 안 되는 저장에 사용
+     * - 기본 구현은 put 과 같음 (덮어쓰기 방지를 지원하지 않는 저장소)
+     */
+    default void create(String key, InputStream in, long size, String contentType) throws IOException {
+        put(key, in, size, contentType);
+    }
+
+    /**
+     * source 를 target 으로 이동 (target 이 있으면 교체)
+     */
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    InputStream get(String key) throws IOException;
+
+    boolean exists(String key);
+
+    Optional<Instant> lastModified(String key);
+
+    /**
+     * prefix 로 시작하는 key 목록
+     */
+    List<String> list(String prefix);
+
+    void delete(Collection<String> keys);
+
+    String publicUrl(String key);
+
+    /**
+     * 이 저장소의 URL 이면 key, 아니면 null
+     */
+    String keyOf(String url);
+
+    /**
+     * 클라이언트가 저장소로 직접 올릴 수 있는 서명된 업로드 URL 발급
+     * - checksumSha256 (base64) 이 있으면 저장소가 내용 해시를 검증
+     */
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, String checksumSha256);
+
+    default boolean supportsPresignedUpload() {
+        return false;
+    }
+}
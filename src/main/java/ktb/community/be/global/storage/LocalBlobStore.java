@@ -0,0 +1,158 @@
+package ktb.community.be.global.storage;
+
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 로컬 파일시스템 저장소 (단일 노드/개발용)
+ * - 업로드 스트림을 FileChannel.transferFrom 으로 바로 기록
+ * - /uploads/** 정적 서빙 (WebConfig) 과 같은 디렉토리 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final Path baseDir;
+
+    public LocalBlobStore(@Value("${file.storage.base-dir:${user.dir}/uploads}") String baseDir) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.baseDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 디렉터리 생성 실패: " + this.baseDir, e);
+        }
+    }
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        write(resolve(key), in, size, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Override
+    public void create(String key, InputStream in, long size, String contentType) throws IOException {
+        write(resolve(key), in, size, StandardOpenOption.CREATE_NEW);
+    }
+
+    /**
+     * 스트림을 size 바이트만큼 기록, 스트림이 먼저 끝나면 (잘린 업로드) 파일을 지우고 실패 처리
+     * - 파일 열기 실패 (CREATE_NEW 인데 이미 있는 경우 등) 는 기존 파일을 건드리지 않음
+     */
+    private void write(Path target, InputStream in, long size, StandardOpenOption... options) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        Set<OpenOption> openOptions = new HashSet<>(Arrays.asList(options));
+        openOptions.add(StandardOpenOption.WRITE);
+        FileChannel out = FileChannel.open(target, openOptions);
+        try (ReadableByteChannel source = Channels.newChannel(in); out) {
+            long position = 0;
+            while (position < size) {
+                long transferred = out.transferFrom(source, position, size - position);
+                if (transferred <= 0) break;
+                position += transferred;
+            }
+            if (position != size) {
+                throw new IOException("업로드 크기 불일치: " + position + "/" + size + " bytes");
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        Files.move(resolve(sourceKey), target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public Optional<Instant> lastModified(String key) {
+        try {
+            return Optional.of(Files.getLastModifiedTime(resolve(key)).toInstant());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        Path prefixPath = resolve(prefix);
+        Path directory = prefix.endsWith("/") ? prefixPath : prefixPath.getParent();
+        String namePrefix = prefix.endsWith("/") ? "" : prefixPath.getFileName().toString();
+
+        List<String> keys = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, namePrefix + "*")) {
+            entries.forEach(path -> keys.add(baseDir.relativize(path).toString().replace('\\', '/')));
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            log.warn("[파일 목록 조회 실패] {}: {}", prefix, e.getMessage());
+        }
+        return keys;
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException e) {
+                log.warn("[파일 삭제 실패] {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return URL_PREFIX + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url != null && url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : null;
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, String checksumSha256) {
+        throw new CustomException(ErrorCode.INVALID_REQUEST, "직접 업로드를 지원하지 않는 저장소입니다.");
+    }
+
+    /**
+     * key → 실제 파일 경로 (저장 디렉토리 밖을 가리키는 key 는 거절)
+     */
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,12 @@
+package ktb.community.be.global.storage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명된 직접 업로드 정보
+ * - 클라이언트는 uploadUrl 로 headers 를 그대로 포함해 PUT 요청 후, imageUrl 을 게시글에 등록
+ */
+public record PresignedUpload(String imageUrl, String uploadUrl, Map<String, List<String>> headers, Instant expiresAt) {
+}
@@ -0,0 +1,221 @@
+package ktb.community.be.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 저장소 (여러 앱 노드가 같은 파일을 공유)
+ * - 파트 크기보다 큰 업로드는 멀티파트로 나눠 스트리밍 (전체를 메모리에 올리지 않음)
+ * - 이동은 서버 측 복사 후 삭제, 삭제는 최대 1000개씩 일괄 요청
+ * - 서명된 PUT URL 로 클라이언트가 이미지 바이트를 저장소에 직접 업로드 (크기/타입/해시는 서명에 포함되어 저장소가 검증)
+ * - 업로드 파일은 내용이 바뀌지 않으므로 Cache-Control: immutable 로 저장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final int MAX_DELETE_BATCH = 1000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final String publicBaseUrl;
+    private final String cacheControl;
+    private final long partSize;
+    private final Duration presignExpiry;
+
+    public S3BlobStore(S3Client s3Client,
+                       S3Presigner s3Presigner,
+                       @Value("${file.storage.s3.bucket}") String bucket,
+                       @Value("${file.storage.s3.public-base-url}") String publicBaseUrl,
+                       @Value("${file.storage.cache-max-age-days:365}") long cacheMaxAgeDays,
+                       @Value("${file.storage.s3.multipart-part-size-mb:8}") long partSizeMb,
+                       @Value("${file.storage.s3.presign-expiry-seconds:300}") long presignExpirySeconds) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
+        this.cacheControl = "public, max-age=" + Duration.ofDays(cacheMaxAgeDays).toSeconds() + ", immutable";
+        this.partSize = Math.max(5, partSizeMb) * 1024 * 1024; // S3 최소 파트 크기 5MB
+        this.presignExpiry = Duration.ofSeconds(presignExpirySeconds);
+    }
+
+    @Override
+    public void put(String key, InputStream in, long size, String contentType) throws IOException {
+        if (size <= partSize) {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(size)
+                    .cacheControl(cacheControl)
+                    .build();
+            s3Client.putObject(request, RequestBody.fromInputStream(in, size));
+            return;
+        }
+        putMultipart(key, in, size, contentType);
+    }
+
+    private void putMultipart(String key, InputStream in, long size, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .cacheControl(cacheControl)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0) {
+                long length = Math.min(partSize, remaining);
+                byte[] chunk = in.readNBytes((int) length);
+                // 스트림이 size 보다 먼저 끝나면 잘린 객체가 완성되지 않도록 업로드 중단
+                if (chunk.length < length) {
+                    throw new IOException("업로드 크기 불일치: " + (size - remaining + chunk.length) + "/" + size + " bytes");
+                }
+
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) chunk.length)
+                        .build(), RequestBody.fromBytes(chunk));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+
+                remaining -= chunk.length;
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+            throw e;
+        }
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey)
+                .build());
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(sourceKey).build());
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new IOException("존재하지 않는 파일: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return head(key).isPresent();
+    }
+
+    @Override
+    public Optional<Instant> lastModified(String key) {
+        return head(key).map(HeadObjectResponse::lastModified);
+    }
+
+    private Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<String> list(String prefix) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build())
+                .contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        List<ObjectIdentifier> identifiers = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        for (int from = 0; from < identifiers.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> batch = identifiers.subList(from, Math.min(from + MAX_DELETE_BATCH, identifiers.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+            response.errors().forEach(error ->
+                    log.warn("[파일 삭제 실패] {}: {}", error.key(), error.message()));
+        }
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return url != null && url.startsWith(publicBaseUrl) ? url.substring(publicBaseUrl.length()) : null;
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, String checksumSha256) {
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .cacheControl(cacheControl);
+        if (checksumSha256 != null) {
+            request.checksumSHA256(checksumSha256);
+        }
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignExpiry)
+                .putObjectRequest(request.build())
+                .build());
+
+        return new PresignedUpload(publicUrl(key), presigned.url().toString(),
+                presigned.signedHeaders(), presigned.expiration());
+    }
+
+    @Override
+    public boolean supportsPresignedUpload() {
+        return true;
+    }
+}
@@ -7,53 +7,61 @@ import java.util.*;
 
 public class CommentHierarchyBuilder {
 
+    private static final long NO_PARENT = 0L;
+
     private CommentHierarchyBuilder() {}
 
+    /**
+     * 댓글 목록을 원댓글 - 대댓글(depth 1) 구조로 변환
+     * - comments 는 createdAt 오름차순으로 정렬되어 있어야 함 (원댓글/대댓글 순서를 그대로 유지, 별도 정렬 없음)
+     * - 부모/루트 댓글은 이미 로딩된 parent_comment_id, root_comment_id 컬럼 값으로 찾음 (프록시 탐색 없음)
+     */
     public static List<CommentResponseDto> buildCommentHierarchy(List<PostComment> comments) {
         if (comments.isEmpty()) return Collections.emptyList();
 
-        Map<Long, CommentResponseDto> commentMap = new HashMap<>();
-        List<CommentResponseDto> topLevelComments = new ArrayList<>();
+        int size = comments.size();
+        CommentResponseDto[] dtos = new CommentResponseDto[size];
+        long[] parentIds = new long[size];
+        LongIndexMap indexById = new LongIndexMap(size);
 
         // 모든 댓글을 DTO로 변환
-        for (PostComment comment : comments) {
-            CommentResponseDto commentDto = CommentResponseDto.from(comment);
-            commentMap.put(comment.getId(), commentDto);
+        for (int i = 0; i < size; i++) {
+            PostComment comment = comments.get(i);
+            dtos[i] = CommentResponseDto.from(comment);
+            parentIds[i] = comment.getParentCommentId() != null ? comment.getParentCommentId() : NO_PARENT;
+            indexById.put(comment.getId(), i);
         }
 
-        for (PostComment comment : comments) {
-            Long parentId = Optional.ofNullable(comment.getParentComment())
-                    .map(PostComment::getId)
-                    .orElse(null);
-
-            CommentResponseDto currentComment = commentMap.get(comment.getId());
-
-            if (parentId == null) {
+        List<CommentResponseDto> topLevelComments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (parentIds[i] == NO_PARENT) {
                 // 원댓글
-                topLevelComments.add(currentComment);
-            } else {
-                // 대댓글의 parent가 대댓글이면 최상위 댓글까지 올라감
-                PostComment topParent = getTopLevelParent(comment);
-                CommentResponseDto topParentDto = commentMap.get(topParent.getId());
-
-                if (topParentDto != null) {
-                    topParentDto.getReplies().add(currentComment);
-                }
+                topLevelComments.add(dtos[i]);
+                continue;
             }
-        }
 
-        // 정렬 (원댓글만 정렬)
-        topLevelComments.sort(Comparator.comparing(CommentResponseDto::getCreatedAt));
-        topLevelComments.forEach(c -> c.getReplies().sort(Comparator.comparing(CommentResponseDto::getCreatedAt)));
+            // 대댓글은 최상위 댓글 아래에 모음
+            int rootIndex = findRootIndex(comments.get(i), i, parentIds, indexById);
+            if (rootIndex != LongIndexMap.NOT_FOUND) {
+                dtos[rootIndex].getReplies().add(dtos[i]);
+            }
+        }
 
         return topLevelComments;
     }
 
-    private static PostComment getTopLevelParent(PostComment comment) {
-        PostComment current = comment;
-        while (current.getParentComment() != null && current.getParentComment().getParentComment() != null) {
-            current = current.getParentComment();
+    private static int findRootIndex(PostComment comment, int index, long[] parentIds, LongIndexMap indexById) {
+        if (comment.getRootCommentId() != null) {
+            return indexById.get(comment.getRootCommentId());
+        }
+
+        // root_comment_id 가 없는 기존 데이터는 parent_comment_id 를 따라 올라감
+        int current = index;
+        for (int hops = 0; hops < parentIds.length && parentIds[current] != NO_PARENT; hops++) {
+            int parentIndex = indexById.get(parentIds[current]);
+            if (parentIndex == LongIndexMap.NOT_FOUND) return LongIndexMap.NOT_FOUND;
+            current = parentIndex;
         }
-        return current.getParentComment() == null ? current : current.getParentComment();
+        return parentIds[current] == NO_PARENT ? current : LongIndexMap.NOT_FOUND;
     }
 }
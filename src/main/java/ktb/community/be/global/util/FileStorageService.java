@@ -1,26 +1,81 @@
 package ktb.community.be.global.util;
 
-import ktb.community.be.domain.post.domain.Post;
-import ktb.community.be.domain.image.domain.PostImage;
-import ktb.community.be.domain.member.domain.Member;
+import jakarta.annotation.PreDestroy;
+import ktb.community.be.domain.image.event.ImagesReleasedEvent;
 import ktb.community.be.global.exception.CustomException;
 import ktb.community.be.global.exception.ErrorCode;
+import ktb.community.be.global.storage.BlobStore;
+import ktb.community.be.global.storage.PresignedUpload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
 
+/**
+ * 업로드 파일 저장 (실제 저장 위치는 BlobStore 구현체: 로컬 파일시스템 또는 S3 호환 저장소)
+ * - 업로드 스트림을 저장소로 바로 흘려보냄 (요청 바이트 전체를 메모리에 올리지 않음)
+ * - 게시글 이미지 여러 장은 전용 I/O 풀에서 병렬 저장 (풀이 가득 차면 호출 스레드에서 실행)
+ * - 호출 측은 트랜잭션 밖에서 저장하고, 이후 DB 작업이 실패하면 저장한 파일을 정리 (ImageGarbageCollector)
+ * - 내용 주소 모드(file.storage.content-addressed): 스트리밍 중 SHA-256 을 계산하여 {digest}.{확장자} 로 저장
+ *   같은 내용은 한 파일을 공유하므로 삭제는 참조 확인 후에만 수행 (ImageGarbageCollector)
+ * - S3 저장소에서는 서명된 URL 로 클라이언트가 직접 업로드 가능 (이미지 바이트가 서버를 거치지 않음)
+ */
+@Slf4j
 @Service
 public class FileStorageService {
 
-    private static final String BASE_UPLOAD_DIR = System.getProperty("user.dir") + "/uploads/";
-    private static final String PROFILE_SUB_DIR = "profile/";
-    private static final String POST_SUB_DIR = "posts/";
+    public static final String PROFILE_SUB_DIR = "profile/";
+    public static final String POST_SUB_DIR = "posts/";
+    private static final String TEMP_SUB_DIR = ".tmp/";
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[A-Za-z0-9]{1,10}");
+    private static final Pattern SHA256_HEX_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
+    // 업로드 허용 이미지 형식 (Content-Type → 확장자), 스크립트를 담을 수 있는 SVG 등은 제외
+    private static final Map<String, Set<String>> ALLOWED_IMAGE_TYPES = Map.of(
+            "image/jpeg", Set.of(".jpg", ".jpeg"),
+            "image/png", Set.of(".png"),
+            "image/gif", Set.of(".gif"),
+            "image/webp", Set.of(".webp"));
+
+    private final BlobStore blobStore;
+    private final boolean contentAddressed;
+    private final long maxUploadBytes;
+    private final ExecutorService ioExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FileStorageService(BlobStore blobStore,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${file.storage.content-addressed:true}") boolean contentAddressed,
+                              @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxUploadSize,
+                              @Value("${file.storage.io-pool-size:4}") int ioPoolSize) {
+        this.blobStore = blobStore;
+        this.eventPublisher = eventPublisher;
+        this.contentAddressed = contentAddressed;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+        this.ioExecutor = new ThreadPoolExecutor(ioPoolSize, ioPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ioPoolSize * 4),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
 
     /**
      * 프로필 이미지 저장
@@ -33,78 +88,215 @@ public class FileStorageService {
     }
 
     /**
-     * 게시글 이미지 여러 개 저장
+     * 게시글 이미지 여러 개 병렬 저장 (요청 순서대로 URL 반환)
+     * - 한 장이라도 실패하면 이미 저장된 파일을 정리하고 예외 발생
      */
-    public List<PostImage> storePostImages(List<MultipartFile> images, List<Integer> orderIndexes, Post post, Member member) {
-        if (images == null || images.isEmpty()) {
-            throw new CustomException(ErrorCode.INVALID_REQUEST, "게시글 이미지는 최소 1개 이상 필요합니다.");
+    public List<String> storePostImages(List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) return List.of();
+        if (images.size() == 1) return List.of(storeFile(images.get(0), POST_SUB_DIR));
+
+        List<Future<String>> futures = new ArrayList<>(images.size());
+        for (MultipartFile image : images) {
+            futures.add(ioExecutor.submit(() -> storeFile(image, POST_SUB_DIR)));
         }
 
-        if (orderIndexes == null || orderIndexes.size() != images.size()) {
-            throw new CustomException(ErrorCode.IMAGE_ORDER_INDEX_MISMATCH);
+        List<String> storedUrls = new ArrayList<>(images.size());
+        CustomException failure = null;
+        for (Future<String> future : futures) {
+            try {
+                storedUrls.add(future.get());
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof CustomException ce
+                        ? ce
+                        : new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
         }
 
-        return IntStream.range(0, images.size())
-                .mapToObj(i -> savePostImage(images.get(i), post, member, orderIndexes.get(i)))
-                .collect(Collectors.toList());
+        if (failure != null) {
+            // 내용 주소 모드에서는 다른 게시글과 공유 중일 수 있으므로 참조 확인 후 삭제 (ImageGarbageCollector)
+            if (contentAddressed) {
+                eventPublisher.publishEvent(new ImagesReleasedEvent(storedUrls));
+            } else {
+                deleteFiles(storedUrls);
+            }
+            throw failure;
+        }
+        return storedUrls;
     }
 
     /**
-     * 게시글 이미지 한 장 저장
+     * 범용 파일 저장 메서드 (허용된 이미지 형식만 저장)
      */
-    private PostImage savePostImage(MultipartFile file, Post post, Member member, int orderIndex) {
-        String savedFilePath = storeFile(file, POST_SUB_DIR);
-        return PostImage.builder()
-                .post(post)
-                .member(member)
-                .imageUrl(savedFilePath)
-                .orderIndex(orderIndex)
-                .isDeleted(false)
-                .build();
+    public String storeFile(MultipartFile file, String subDir) {
+        String extension = validatedImageExtension(file.getOriginalFilename(), file.getContentType());
+        String normalizedSubDir = subDir.endsWith("/") ? subDir : subDir + "/";
+        if (contentAddressed) return storeContentAddressed(file, normalizedSubDir, extension);
+
+        String key = normalizedSubDir + UUID.randomUUID() + extension;
+        try (InputStream in = file.getInputStream()) {
+            blobStore.create(key, in, file.getSize(), file.getContentType());
+        } catch (IOException | RuntimeException e) {
+            throw uploadFailed(file, e);
+        }
+
+        // DB에는 저장소 URL (로컬: /uploads/posts/filename.png) 형식으로 반환
+        return blobStore.publicUrl(key);
     }
 
     /**
-     * 범용 파일 저장 메서드
+     * 내용 주소 방식 저장
+     * - 임시 위치에 기록하면서 동시에 SHA-256 계산 (업로드를 두 번 읽지 않음)
+     * - {digest}.{확장자} 로 이동, 같은 내용이 이미 있으면 동일 내용으로 교체되어 수정 시각만 갱신됨
      */
-    public String storeFile(MultipartFile file, String subDir) {
+    private String storeContentAddressed(MultipartFile file, String subDir, String extension) {
+        String tempKey = TEMP_SUB_DIR + UUID.randomUUID();
         try {
-            String uploadDir = BASE_UPLOAD_DIR + subDir;
-            ensureUploadDirExists(uploadDir);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // 저장소가 재시도를 위해 mark/reset 으로 다시 읽으면 해시가 중복 계산되므로 mark 미지원으로 감쌈
+            try (InputStream in = new FilterInputStream(new DigestInputStream(file.getInputStream(), digest)) {
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+            }) {
+                blobStore.create(tempKey, in, file.getSize(), file.getContentType());
+            }
 
-            String fileName = generateUniqueFileName(file);
-            String fullPath = uploadDir + fileName;
+            String key = subDir + HexFormat.of().formatHex(digest.digest()) + extension;
+            blobStore.move(tempKey, key);
+            return blobStore.publicUrl(key);
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            blobStore.delete(List.of(tempKey));
+            throw uploadFailed(file, e);
+        }
+    }
 
-            file.transferTo(new File(fullPath));
+    private CustomException uploadFailed(MultipartFile file, Exception cause) {
+        log.warn("[파일 저장 실패] {}: {}", file.getOriginalFilename(), cause.getMessage());
+        return new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장 실패: " + file.getOriginalFilename());
+    }
 
-            // DB에는 상대경로 (/uploads/posts/filename.png) 형식으로 반환
-            return "/uploads/" + subDir + fileName;
-        } catch (IOException e) {
-            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "파일 저장 실패: " + file.getOriginalFilename());
+    /**
+     * 게시글 이미지 직접 업로드용 서명 URL 발급
+     * - 내용 주소 모드에서는 클라이언트가 계산한 SHA-256 을 파일명으로 쓰고, 저장소가 업로드 내용과 해시 일치를 검증
+     */
+    public PresignedUpload presignPostImageUpload(String originalFilename, String contentType,
+                                                  long contentLength, String sha256Hex) {
+        if (!blobStore.supportsPresignedUpload()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "직접 업로드를 지원하지 않는 저장소입니다.");
         }
+        String extension = validatedImageExtension(originalFilename, contentType);
+        if (contentLength <= 0 || contentLength > maxUploadBytes) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "*업로드할 수 있는 파일 크기를 초과했습니다.");
+        }
+
+        if (!contentAddressed) {
+            return blobStore.presignUpload(POST_SUB_DIR + UUID.randomUUID() + extension, contentType, contentLength, null);
+        }
+
+        if (sha256Hex == null || !SHA256_HEX_PATTERN.matcher(sha256Hex).matches()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "*파일의 SHA-256 값이 필요합니다.");
+        }
+        String digest = sha256Hex.toLowerCase(Locale.ROOT);
+        String checksum = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(digest));
+        return blobStore.presignUpload(POST_SUB_DIR + digest + extension, contentType, contentLength, checksum);
+    }
+
+    /**
+     * 직접 업로드가 끝난 게시글 이미지인지 확인
+     */
+    public boolean isStoredPostImage(String url) {
+        String key = blobStore.keyOf(url);
+        return key != null && key.startsWith(POST_SUB_DIR) && !key.contains("..") && blobStore.exists(key);
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    /**
+     * 최근(grace 이내)에 저장된 파일인지 확인
+     * - 내용 주소 모드에서 같은 내용을 방금 올린 요청이 아직 커밋 전일 수 있으므로 삭제를 미룸
+     */
+    public boolean isModifiedWithin(String url, Duration grace) {
+        String key = blobStore.keyOf(url);
+        if (key == null) return false;
+        return blobStore.lastModified(key)
+                .map(modifiedAt -> modifiedAt.isAfter(Instant.now().minus(grace)))
+                .orElse(false);
+    }
+
+    public boolean exists(String url) {
+        String key = blobStore.keyOf(url);
+        return key != null && blobStore.exists(key);
+    }
+
+    public InputStream openStream(String url) throws IOException {
+        String key = blobStore.keyOf(url);
+        if (key == null) throw new IOException("저장소 밖의 URL: " + url);
+        return blobStore.get(key);
     }
 
     /**
-     * 저장 디렉토리 존재 확인 및 생성
+     * 서버에서 만든 파일(축소본 등) 저장
      */
-    private void ensureUploadDirExists(String uploadDir) throws IOException {
-        File uploadDirFile = new File(uploadDir);
-        if (!uploadDirFile.exists()) {
-            boolean isCreated = uploadDirFile.mkdirs();
-            System.out.println("디렉토리 생성됨: " + uploadDirFile.getAbsolutePath() + " -> " + isCreated);
-            if (!isCreated) {
-                throw new IOException("업로드 디렉터리 생성 실패: " + uploadDir);
+    public void storeBytes(String url, byte[] bytes, String contentType) throws IOException {
+        String key = blobStore.keyOf(url);
+        if (key == null) throw new IOException("저장소 밖의 URL: " + url);
+        blobStore.put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    /**
+     * 원본과 축소본({원본명}_w*) 함께 비동기 삭제
+     */
+    public void deleteWithVariants(String url) {
+        String key = blobStore.keyOf(url);
+        if (key == null) return;
+
+        ioExecutor.execute(() -> {
+            try {
+                List<String> keys = new ArrayList<>();
+                keys.add(key);
+                keys.addAll(blobStore.list(StringUtils.stripFilenameExtension(key) + "_w"));
+                blobStore.delete(keys);
+            } catch (RuntimeException e) {
+                log.warn("[파일 삭제 실패] {}: {}", url, e.getMessage());
             }
+        });
+    }
+
+    /**
+     * 저장된 파일 삭제 (DB 반영 실패 시 보상 처리용)
+     */
+    public void deleteFiles(List<String> urls) {
+        blobStore.delete(urls.stream().map(blobStore::keyOf).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * 허용된 이미지 형식인지 확인 후 저장 key 에 쓸 확장자 반환 (소문자)
+     * - 서명 URL 발급과 multipart 업로드에 같은 기준 적용
+     * - 로컬 저장소는 확장자로 Content-Type 을 정해 서빙하므로 Content-Type 과 확장자가 함께 맞아야 함
+     */
+    private String validatedImageExtension(String originalFilename, String contentType) {
+        String extension = extensionOf(originalFilename).toLowerCase(Locale.ROOT);
+        Set<String> allowedExtensions = contentType == null
+                ? null
+                : ALLOWED_IMAGE_TYPES.get(contentType.toLowerCase(Locale.ROOT));
+        if (allowedExtensions == null || !allowedExtensions.contains(extension)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "*JPG, PNG, GIF, WEBP 이미지만 업로드할 수 있습니다.");
         }
+        return extension;
     }
 
     /**
-     * UUID 기반 고유 파일 경로 생성
+     * 원본 파일명의 확장자 (영숫자가 아니면 저장 key 에 넣지 않음)
      */
-    private String generateUniqueFileName(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
-        String extension = (originalFilename != null && originalFilename.contains("."))
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        return UUID.randomUUID() + extension;
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) return "";
+        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : "";
     }
 }
@@ -0,0 +1,173 @@
+package ktb.community.be.global.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.List;
+
+/**
+ * 업로드 이미지의 너비별 축소본 생성 (JDK ImageIO 만 사용)
+ * - 원본은 한 번만 디코딩하며, 필요한 최대 너비의 2배 수준까지 서브샘플링해서 읽어 메모리/CPU 사용을 줄임
+ * - 헤더의 가로×세로 픽셀 수가 image.variant.max-pixels 를 넘으면 디코딩하지 않음 (압축 폭탄 방지)
+ * - 큰 너비부터 차례로 직전 결과를 다시 축소해 만듦 (단계적 축소로 품질 유지)
+ * - 투명도가 있으면 PNG, 없으면 JPEG 으로 저장 ({원본명}_w{너비}.{확장자})
+ * - 원본보다 크거나 같은 너비는 원본 URL 을 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private static final Set<String> SKIPPED_EXTENSIONS = Set.of("gif", "svg", "webp"); // 애니메이션 손실 또는 디코딩 불가
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${image.variant.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${image.variant.max-pixels:50000000}")
+    private long maxPixels;
+
+    /**
+     * 원본 URL 기준 너비별 축소본 생성
+     * @return 너비 → 이미지 URL (생성할 수 없는 형식이면 빈 Map)
+     */
+    public Map<Integer, String> generate(String originalUrl, List<Integer> widths) {
+        String extension = StringUtils.getFilenameExtension(originalUrl);
+        if (extension != null && SKIPPED_EXTENSIONS.contains(extension.toLowerCase())) return Map.of();
+
+        List<Integer> targetWidths = widths.stream().distinct().sorted(Comparator.reverseOrder()).toList();
+        if (targetWidths.isEmpty()) return Map.of();
+
+        try {
+            DecodedImage decoded = decode(originalUrl, targetWidths.get(0));
+            if (decoded == null) return Map.of();
+
+            boolean hasAlpha = decoded.image().getColorModel().hasAlpha();
+            String variantExtension = hasAlpha ? "png" : "jpg";
+
+            Map<Integer, String> variants = new HashMap<>();
+            BufferedImage current = decoded.image();
+            for (int width : targetWidths) {
+                if (width >= decoded.originalWidth()) {
+                    variants.put(width, originalUrl);
+                    continue;
+                }
+                current = resize(current, width, hasAlpha);
+                String variantUrl = variantUrl(originalUrl, width, variantExtension);
+                if (!fileStorageService.exists(variantUrl)) { // 내용 주소 모드에서 같은 원본의 축소본이 이미 있으면 재사용
+                    fileStorageService.storeBytes(variantUrl, encode(current, variantExtension),
+                            "png".equals(variantExtension) ? "image/png" : "image/jpeg");
+                }
+                variants.put(width, variantUrl);
+            }
+            return variants;
+        } catch (IOException e) {
+            log.warn("[이미지 축소본 생성 실패] {}: {}", originalUrl, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 필요한 크기까지만 서브샘플링하여 디코딩 (지원하지 않는 형식이면 null)
+     * - 픽셀 수는 헤더만 읽어 확인하고, 한도를 넘으면 디코딩 전에 실패 처리
+     */
+    private DecodedImage decode(String originalUrl, int maxTargetWidth) throws IOException {
+        try (InputStream source = fileStorageService.openStream(originalUrl);
+             ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int originalWidth = reader.getWidth(0);
+                int originalHeight = reader.getHeight(0);
+                if ((long) originalWidth * originalHeight > maxPixels) {
+                    throw new IOException("이미지 픽셀 수 초과: " + originalWidth + "x" + originalHeight);
+                }
+                int subsampling = subsampling(originalWidth, originalHeight, maxTargetWidth);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new DecodedImage(reader.read(0, param), originalWidth);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 서브샘플링 배율
+     * - 긴 변이 최대 너비의 2배 수준이 되도록 줄이되 (세로로 긴 이미지도 디코딩 크기 제한)
+     * - 디코딩 결과의 너비가 최대 너비보다 작아지지는 않게 함
+     */
+    private int subsampling(int width, int height, int maxTargetWidth) {
+        int byWidth = width / (maxTargetWidth * 2);
+        int byHeight = Math.min(height / (maxTargetWidth * 2), width / maxTargetWidth);
+        return Math.max(1, Math.max(byWidth, byHeight));
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, boolean hasAlpha) {
+        if (source.getWidth() <= width) return source;
+
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height,
+                hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private String variantUrl(String originalUrl, int width, String extension) {
+        return StringUtils.stripFilenameExtension(originalUrl) + "_w" + width + "." + extension;
+    }
+
+    private record DecodedImage(BufferedImage image, int originalWidth) {
+    }
+}
@@ -0,0 +1,64 @@
+package ktb.community.be.global.util;
+
+import ktb.community.be.global.exception.CustomException;
+import ktb.community.be.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 복합 키 기반 커서
+ * - 클라이언트에는 Base64URL 로 인코딩한 불투명 토큰으로 전달
+ * - 같은 createdAt 을 가진 행도 id 로 순서가 고정되어 누락/중복 없이 페이지네이션 가능
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "_";
+    static final long LEGACY_CURSOR_ID = 0L;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석 (null 이면 첫 페이지)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 이전 방식의 LocalDateTime 커서도 허용하는 해석 (기존 클라이언트가 있는 게시글 목록 전용)
+     * - 내림차순 조회에서 id 를 0 으로 두면 (createdAt = 커서 AND id < 0) 조건이 항상 거짓이 되므로, 기존과 같이 createdAt < 커서 로 동작
+     * - 오름차순인 댓글 조회에서는 경계 행이 다시 포함되므로 사용하지 않음
+     */
+    public static KeysetCursor decodeAllowingLegacy(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            return new KeysetCursor(LocalDateTime.parse(token), LEGACY_CURSOR_ID);
+        } catch (DateTimeParseException ignored) {
+            return decode(token);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ktb.community.be.global.util;
+
+import java.util.Arrays;
+
+/**
+ * long 키 → int 인덱스 맵 (개방 주소법, 박싱 없음)
+ * - 삭제를 지원하지 않음 (한 번 구성 후 조회 용도)
+ * - 예상 크기를 넘겨 넣으면 두 배로 늘려 재배치 (적재율 0.5 이하 유지)
+ * - Long.MIN_VALUE 는 빈 슬롯 표시로 쓰므로 키로 사용할 수 없음
+ * - 사용 위치: 댓글 계층 구성 시 댓글 ID → 목록 인덱스 조회 (CommentHierarchyBuilder)
+ */
+public final class LongIndexMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    public static final int NOT_FOUND = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIndexMap(int expectedSize) {
+        // 적재율 0.5 이하 유지
+        allocate(Integer.highestOneBit(Math.max(expectedSize, 1) * 2) * 2);
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("사용할 수 없는 키: " + key);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) size++;
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    public int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = slot(oldKeys[i]);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,120 @@
+package ktb.community.be.domain.comment.dao;
+
+import jakarta.persistence.EntityManagerFactory;
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.comment.dto.CommentResponseDto;
+import ktb.community.be.domain.member.domain.Authority;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.global.util.CommentHierarchyBuilder;
+import ktb.community.be.support.MySqlContainerConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlContainerConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostCommentRepositoryTest {
+
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("댓글 전체 조회는 댓글 수와 관계없이 쿼리 1회로 끝난다")
+    void findAllByPostIdRunsSingleQuery() {
+        Long smallPostId = savePostWithComments(1);
+        Long largePostId = savePostWithComments(30);
+
+        long smallCount = countStatementsWhileBuildingHierarchy(smallPostId, 1);
+        long largeCount = countStatementsWhileBuildingHierarchy(largePostId, 30);
+
+        assertThat(smallCount).isEqualTo(1);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    private long countStatementsWhileBuildingHierarchy(Long postId, int expectedTopLevel) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<PostComment> comments = postCommentRepository.findAllByPostId(postId);
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(comments);
+
+        assertThat(hierarchy).hasSize(expectedTopLevel);
+        assertThat(hierarchy).allSatisfy(dto -> {
+            assertThat(dto.getMemberNickname()).isNotNull();
+            assertThat(dto.getReplies()).hasSize(1);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 작성자가 모두 다른 원댓글 topLevelCount 개와 각 원댓글의 대댓글 1개 저장
+     */
+    private Long savePostWithComments(int topLevelCount) {
+        Post post = entityManager.persist(Post.builder()
+                .member(saveMember())
+                .title("title")
+                .content("content")
+                .viewCount(0)
+                .likeCount(0)
+                .commentCount(0)
+                .isDeleted(false)
+                .build());
+
+        for (int i = 0; i < topLevelCount; i++) {
+            PostComment parent = entityManager.persist(PostComment.builder()
+                    .post(post)
+                    .member(saveMember())
+                    .content("comment " + i)
+                    .build());
+            entityManager.persist(PostComment.builder()
+                    .post(post)
+                    .member(saveMember())
+                    .parentComment(parent)
+                    .rootCommentId(parent.getId())
+                    .content("reply " + i)
+                    .build());
+        }
+        entityManager.flush();
+        return post.getId();
+    }
+
+    private Member saveMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return entityManager.persist(Member.builder()
+                .email("member-" + suffix + "@test.com")
+                .password("password")
+                .nickname("m" + suffix)
+                .profileImageUrl("/uploads/profile.png")
+                .authority(Authority.ROLE_USER)
+                .build());
+    }
+}
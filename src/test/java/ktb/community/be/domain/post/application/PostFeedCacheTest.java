@@ -0,0 +1,155 @@
+package ktb.community.be.domain.post.application;
+
+import ktb.community.be.domain.post.dto.PostListResponseDto;
+import ktb.community.be.domain.post.event.PostCreatedEvent;
+import ktb.community.be.domain.post.event.PostDeletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostFeedCacheTest {
+
+    @Test
+    @DisplayName("1 이상 capacity 이하의 요청만 스냅샷 범위로 본다")
+    void covers() {
+        PostFeedCache cache = new PostFeedCache(20);
+
+        assertThat(cache.covers(0)).isFalse();
+        assertThat(cache.covers(1)).isTrue();
+        assertThat(cache.covers(20)).isTrue();
+        assertThat(cache.covers(21)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 한 번 적재한 뒤에는 loader 를 다시 호출하지 않는다")
+    void loadsOnce() {
+        PostFeedCache cache = new PostFeedCache(20);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<PostListResponseDto> first = cache.getHead(3, () -> {
+            loads.incrementAndGet();
+            return posts(5, 4, 3, 2, 1);
+        });
+        List<PostListResponseDto> second = cache.getHead(10, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(ids(first)).containsExactly(5L, 4L, 3L);
+        assertThat(ids(second)).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("작성된 게시글은 맨 앞에 들어가고 capacity 를 넘는 끝부분은 잘린다")
+    void prependsCreatedPost() {
+        PostFeedCache cache = new PostFeedCache(3);
+        cache.refresh(() -> posts(3, 2, 1));
+
+        cache.onPostCreated(new PostCreatedEvent(post(4)));
+
+        assertThat(ids(cache.getHead(3, List::of))).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없을 때의 작성 이벤트는 무시되고 다음 적재 결과를 사용한다")
+    void ignoresEventsBeforeFirstLoad() {
+        PostFeedCache cache = new PostFeedCache(3);
+
+        cache.onPostCreated(new PostCreatedEvent(post(9)));
+
+        assertThat(ids(cache.getHead(3, () -> posts(2, 1)))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 스냅샷에서 빠진다")
+    void removesDeletedPost() {
+        PostFeedCache cache = new PostFeedCache(5);
+        cache.refresh(() -> posts(3, 2, 1));
+
+        cache.onPostDeleted(new PostDeletedEvent(2L));
+
+        assertThat(ids(cache.getHead(5, List::of))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("재적재 도중 반영된 작성은 재적재 결과로 덮어쓰지 않는다")
+    void refreshDoesNotOverwriteConcurrentCreate() {
+        PostFeedCache cache = new PostFeedCache(5);
+        cache.refresh(() -> posts(2, 1));
+
+        cache.refresh(() -> {
+            // 재적재 쿼리가 끝나기 전에 새 게시글 작성이 커밋된 상황
+            cache.onPostCreated(new PostCreatedEvent(post(3)));
+            return posts(2, 1);
+        });
+
+        assertThat(ids(cache.getHead(5, List::of))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없을 때 동시에 들어온 요청은 한 번의 적재 결과를 함께 사용한다")
+    void concurrentColdLoadsShareOneLoad() throws Exception {
+        PostFeedCache cache = new PostFeedCache(20);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<PostListResponseDto>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> cache.getHead(2, () -> {
+                    loads.incrementAndGet();
+                    loaderEntered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return posts(2, 1);
+                })));
+            }
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(200); // 나머지 요청이 진행 중인 적재에 합류할 시간
+            release.countDown();
+
+            for (Future<List<PostListResponseDto>> future : futures) {
+                assertThat(ids(future.get(5, TimeUnit.SECONDS))).containsExactly(2L, 1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    private List<PostListResponseDto> posts(long... ids) {
+        return LongStream.of(ids).mapToObj(this::post).toList();
+    }
+
+    private PostListResponseDto post(long id) {
+        return PostListResponseDto.builder()
+                .id(id)
+                .title("post " + id)
+                .memberNickname("member")
+                .createdAt(LocalDateTime.of(2025, 3, 1, 0, 0).plusMinutes(id))
+                .build();
+    }
+
+    private List<Long> ids(List<PostListResponseDto> posts) {
+        return posts.stream().map(PostListResponseDto::getId).toList();
+    }
+}
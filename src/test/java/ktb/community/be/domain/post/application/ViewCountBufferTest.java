@@ -0,0 +1,89 @@
+package ktb.community.be.domain.post.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountBufferTest {
+
+    @Test
+    @DisplayName("수집과 동시에 증가해도 조회수가 유실되지 않는다")
+    void concurrentIncreaseAndCollect() throws Exception {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        int threads = 8;
+        int increasesPerThread = 20_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < increasesPerThread; i++) {
+                    buffer.increase((long) (i % 3)); // 소수의 게시글에 집중시켜 카운터 정리와 경합하도록 함
+                }
+                done.countDown();
+                return null;
+            });
+        }
+
+        AtomicLong flushed = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                Map<Long, Long> pending = buffer.collectPending();
+                pending.values().forEach(flushed::addAndGet);
+                buffer.markFlushed(pending);
+            }
+        });
+
+        flusher.start();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+
+        Map<Long, Long> remaining = buffer.collectPending();
+        remaining.values().forEach(flushed::addAndGet);
+
+        assertThat(flushed.get()).isEqualTo((long) threads * increasesPerThread);
+    }
+
+    @Test
+    @DisplayName("반영 전까지는 대기 조회수에 포함되고, 실패하면 버퍼로 되돌린다")
+    void restoreOnFailure() {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.increase(1L);
+        buffer.increase(1L);
+
+        Map<Long, Long> pending = buffer.collectPending();
+        assertThat(pending).containsEntry(1L, 2L);
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2L);
+
+        buffer.restore(pending);
+        assertThat(buffer.getPendingCount(1L)).isEqualTo(2L);
+        assertThat(buffer.collectPending()).containsEntry(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("반영이 끝나면 대기 조회수에서 빠진다")
+    void markFlushed() {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.increase(1L);
+
+        buffer.markFlushed(buffer.collectPending());
+
+        assertThat(buffer.getPendingCount(1L)).isZero();
+        assertThat(buffer.collectPending()).isEmpty();
+    }
+}
@@ -0,0 +1,185 @@
+package ktb.community.be.domain.post.dao;
+
+import ktb.community.be.domain.comment.dao.PostCommentRepository;
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.member.dao.MemberRepository;
+import ktb.community.be.domain.member.domain.Authority;
+import ktb.community.be.domain.member.domain.Member;
+import ktb.community.be.domain.post.domain.Post;
+import ktb.community.be.support.MySqlContainerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlContainerConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 실제 커밋
+class PostCounterConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int INCREASES_PER_THREAD = 200;
+    private static final int DECREASES_PER_THREAD = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        postCommentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시 댓글 수 증감은 원자적 UPDATE 로 유실 없이 반영된다")
+    void concurrentCommentCountUpdates() throws Exception {
+        Long postId = savePost(saveMember(), 0).getId();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < INCREASES_PER_THREAD; i++) {
+                transactionTemplate.executeWithoutResult(status -> postRepository.increaseCommentCount(postId));
+                if (i < DECREASES_PER_THREAD) {
+                    transactionTemplate.executeWithoutResult(status -> postRepository.decreaseCommentCount(postId));
+                }
+            }
+        });
+
+        assertThat(postRepository.findCountsById(postId).orElseThrow().getCommentCount())
+                .isEqualTo(THREADS * (INCREASES_PER_THREAD - DECREASES_PER_THREAD));
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 수 증감은 원자적 UPDATE 로 유실 없이 반영된다")
+    void concurrentLikeCountUpdates() throws Exception {
+        Long postId = savePost(saveMember(), 0).getId();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < INCREASES_PER_THREAD; i++) {
+                transactionTemplate.executeWithoutResult(status -> postRepository.increaseLikeCount(postId));
+                if (i < DECREASES_PER_THREAD) {
+                    transactionTemplate.executeWithoutResult(status -> postRepository.decreaseLikeCount(postId));
+                }
+            }
+        });
+
+        assertThat(postRepository.findLikeCountById(postId)).contains(THREADS * (INCREASES_PER_THREAD - DECREASES_PER_THREAD));
+    }
+
+    @Test
+    @DisplayName("감소는 0 아래로 내려가지 않는다")
+    void decreaseStopsAtZero() throws Exception {
+        Long postId = savePost(saveMember(), 0).getId();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < DECREASES_PER_THREAD; i++) {
+                transactionTemplate.executeWithoutResult(status -> postRepository.decreaseCommentCount(postId));
+            }
+        });
+
+        assertThat(postRepository.findCountsById(postId).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정은 지정한 ID 구간의 어긋난 행만 고친다")
+    void reconcileCommentCountsWithinRange() {
+        Member member = saveMember();
+        Post inRange = savePost(member, 7);
+        Post outOfRange = savePost(member, 7);
+        saveComment(inRange, member);
+        saveComment(inRange, member);
+
+        Integer updated = transactionTemplate.execute(status ->
+                postRepository.reconcileCommentCounts(inRange.getId(), inRange.getId()));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(postRepository.findCountsById(inRange.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+        assertThat(postRepository.findCountsById(outOfRange.getId()).orElseThrow().getCommentCount()).isEqualTo(7);
+
+        // 이미 맞는 행은 다시 갱신하지 않음
+        Integer again = transactionTemplate.execute(status ->
+                postRepository.reconcileCommentCounts(inRange.getId(), outOfRange.getId()));
+        assertThat(again).isEqualTo(1);
+        assertThat(postRepository.findCountsById(outOfRange.getId()).orElseThrow().getCommentCount()).isZero();
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Member saveMember() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .email("member-" + suffix + "@test.com")
+                .password("password")
+                .nickname("m" + suffix)
+                .profileImageUrl("/uploads/profile.png")
+                .authority(Authority.ROLE_USER)
+                .build());
+    }
+
+    private Post savePost(Member member, int commentCount) {
+        return postRepository.save(Post.builder()
+                .member(member)
+                .title("title")
+                .content("content")
+                .viewCount(0)
+                .likeCount(0)
+                .commentCount(commentCount)
+                .isDeleted(false)
+                .build());
+    }
+
+    private void saveComment(Post post, Member member) {
+        postCommentRepository.save(PostComment.builder()
+                .post(post)
+                .member(member)
+                .content("comment")
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package ktb.community.be.global.util;
+
+import ktb.community.be.domain.comment.domain.PostComment;
+import ktb.community.be.domain.comment.dto.CommentResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentHierarchyBuilderTest {
+
+    @Test
+    @DisplayName("빈 목록은 빈 계층으로 변환된다")
+    void empty() {
+        assertThat(CommentHierarchyBuilder.buildCommentHierarchy(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대댓글은 목록 순서대로 최상위 댓글 아래에 모인다")
+    void groupsRepliesUnderRoot() {
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(List.of(
+                topLevel(1L),
+                topLevel(2L),
+                reply(3L, 1L, 1L),
+                reply(4L, 2L, 2L),
+                reply(5L, 3L, 1L))); // 대댓글에 단 답글도 최상위 댓글 아래 (depth 1)
+
+        assertThat(hierarchy).extracting(CommentResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(repliesOf(hierarchy.get(0))).containsExactly(3L, 5L);
+        assertThat(repliesOf(hierarchy.get(1))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글보다 앞에 온 대댓글도 해당 댓글 아래에 붙는다")
+    void outOfOrderReplies() {
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(List.of(
+                reply(3L, 1L, 1L),
+                topLevel(1L),
+                reply(4L, 1L, 1L)));
+
+        assertThat(hierarchy).extracting(CommentResponseDto::getId).containsExactly(1L);
+        assertThat(repliesOf(hierarchy.get(0))).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글이 목록에 없는 대댓글은 버려진다")
+    void orphanReplies() {
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(List.of(
+                topLevel(1L),
+                reply(3L, 99L, 99L),
+                legacyReply(4L, 98L)));
+
+        assertThat(hierarchy).extracting(CommentResponseDto::getId).containsExactly(1L);
+        assertThat(hierarchy.get(0).getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("root_comment_id 가 없는 기존 대댓글은 parent_comment_id 를 따라 최상위 댓글을 찾는다")
+    void legacyRepliesWithoutRootId() {
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(List.of(
+                topLevel(1L),
+                legacyReply(2L, 1L),
+                legacyReply(3L, 2L),
+                reply(4L, 3L, 1L)));
+
+        assertThat(hierarchy).extracting(CommentResponseDto::getId).containsExactly(1L);
+        assertThat(repliesOf(hierarchy.get(0))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("부모 관계가 순환하는 기존 데이터는 무한 반복 없이 버려진다")
+    void legacyCycle() {
+        List<CommentResponseDto> hierarchy = CommentHierarchyBuilder.buildCommentHierarchy(List.of(
+                topLevel(1L),
+                legacyReply(2L, 3L),
+                legacyReply(3L, 2L)));
+
+        assertThat(hierarchy).extracting(CommentResponseDto::getId).containsExactly(1L);
+        assertThat(hierarchy.get(0).getReplies()).isEmpty();
+    }
+
+    private PostComment topLevel(Long id) {
+        return PostComment.builder().id(id).content("comment " + id).build();
+    }
+
+    private PostComment reply(Long id, Long parentId, Long rootId) {
+        return PostComment.builder().id(id).parentCommentId(parentId).rootCommentId(rootId).content("reply " + id).build();
+    }
+
+    private PostComment legacyReply(Long id, Long parentId) {
+        return PostComment.builder().id(id).parentCommentId(parentId).content("reply " + id).build();
+    }
+
+    private List<Long> repliesOf(CommentResponseDto comment) {
+        return comment.getReplies().stream().map(CommentResponseDto::getId).toList();
+    }
+}
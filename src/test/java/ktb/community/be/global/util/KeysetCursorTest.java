@@ -0,0 +1,77 @@
+package ktb.community.be.global.util;
+
+import ktb.community.be.global.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 createdAt, id 로 해석된다")
+    void encodeAndDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(createdAt, 42L));
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서 토큰은 URL 에 그대로 쓸 수 있다")
+    void encodedTokenIsUrlSafe() {
+        String token = KeysetCursor.encode(LocalDateTime.of(2025, 3, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("이전 방식의 LocalDateTime 커서는 id 하한(0)으로 해석되어 경계 행이 다시 포함되지 않는다")
+    void decodeLegacyCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30);
+
+        KeysetCursor cursor = KeysetCursor.decodeAllowingLegacy(createdAt.toString());
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(KeysetCursor.LEGACY_CURSOR_ID);
+    }
+
+    @Test
+    @DisplayName("이전 방식 커서를 허용하는 해석도 신규 커서는 그대로 해석한다")
+    void decodeAllowingLegacyAcceptsNewCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30);
+
+        KeysetCursor cursor = KeysetCursor.decodeAllowingLegacy(KeysetCursor.encode(createdAt, 7L));
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("기본 해석은 이전 방식의 LocalDateTime 커서를 잘못된 요청으로 거절한다")
+    void decodeRejectsLegacyCursor() {
+        String legacyToken = LocalDateTime.of(2025, 3, 1, 12, 30).toString();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(legacyToken))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void decodeEmpty() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 잘못된 요청")
+    void decodeInvalid() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package ktb.community.be.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIndexMapTest {
+
+    @Test
+    @DisplayName("넣은 키는 인덱스로, 없는 키는 NOT_FOUND 로 조회된다")
+    void putAndGet() {
+        LongIndexMap map = new LongIndexMap(4);
+        map.put(10L, 0);
+        map.put(0L, 1);
+        map.put(-7L, 2);
+
+        assertThat(map.get(10L)).isEqualTo(0);
+        assertThat(map.get(0L)).isEqualTo(1);
+        assertThat(map.get(-7L)).isEqualTo(2);
+        assertThat(map.get(11L)).isEqualTo(LongIndexMap.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 넣으면 값만 바뀌고 크기는 그대로다")
+    void overwrite() {
+        LongIndexMap map = new LongIndexMap(2);
+        map.put(5L, 0);
+        map.put(5L, 3);
+
+        assertThat(map.get(5L)).isEqualTo(3);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 걸리는 키도 선형 탐사로 모두 조회된다")
+    void collidingKeys() {
+        LongIndexMap map = new LongIndexMap(1);
+        int capacity = map.capacity();
+        List<Long> colliding = collidingKeys(capacity, 2);
+
+        map.put(colliding.get(0), 0);
+        map.put(colliding.get(1), 1);
+
+        assertThat(map.capacity()).isEqualTo(capacity); // 재배치 없이 충돌 처리
+        assertThat(map.get(colliding.get(0))).isEqualTo(0);
+        assertThat(map.get(colliding.get(1))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘겨 넣으면 늘어나고 기존 키도 그대로 조회된다")
+    void growsBeyondExpectedSize() {
+        LongIndexMap map = new LongIndexMap(1);
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            map.put(i * 31L + 1, i);
+        }
+
+        assertThat(map.size()).isEqualTo(count);
+        assertThat(map.capacity()).isGreaterThanOrEqualTo(count * 2);
+        for (int i = 0; i < count; i++) {
+            assertThat(map.get(i * 31L + 1)).isEqualTo(i);
+        }
+        assertThat(map.get(2L)).isEqualTo(LongIndexMap.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 표시값(Long.MIN_VALUE)은 키로 쓸 수 없다")
+    void rejectsSentinelKey() {
+        LongIndexMap map = new LongIndexMap(1);
+
+        assertThatThrownBy(() -> map.put(Long.MIN_VALUE, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * capacity 크기 테이블에서 같은 시작 슬롯을 갖는 키 count 개 (LongIndexMap 의 해시와 동일한 계산)
+     */
+    private List<Long> collidingKeys(int capacity, int count) {
+        int mask = capacity - 1;
+        List<Long> keys = new ArrayList<>();
+        int targetSlot = slot(1L, mask);
+        for (long key = 1; keys.size() < count; key++) {
+            if (slot(key, mask) == targetSlot) keys.add(key);
+        }
+        return keys;
+    }
+
+    private int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,22 @@
+package ktb.community.be.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySQL 컨테이너 기반 리포지토리 테스트 설정
+ * - 네이티브 쿼리와 InnoDB 잠금 동작을 실제 MySQL 로 검증
+ * - 사용하는 테스트는 @Testcontainers(disabledWithoutDocker = true) 로 Docker 없는 환경에서 건너뜀
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mySqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}